@@ -0,0 +1,78 @@
+package com.example.orderservice.benchmark;
+
+import com.example.orderservice.dto.order.OrderUpdateDto;
+import com.example.orderservice.dto.orderItem.OrderItemCreateDto;
+import com.example.orderservice.dto.orderItem.OrderItemUpdateDto;
+import com.example.orderservice.model.Item;
+import com.example.orderservice.model.Order;
+import com.example.orderservice.model.OrderItem;
+import com.example.orderservice.model.OrderStatus;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Deterministic object graphs shared by the benchmarks.
+ */
+final class OrderFixtures {
+
+    private OrderFixtures() {
+    }
+
+    static Order order(final long orderId, final int lines) {
+        final Order order = Order.builder()
+                .id(orderId)
+                .userId(orderId % 1_000)
+                .status(OrderStatus.CREATED)
+                .orderDate(LocalDateTime.of(2024, 1, 1, 12, 0))
+                .orderTotal(BigDecimal.ZERO)
+                .orderItems(new ArrayList<>(lines))
+                .build();
+        for (int i = 0; i < lines; i++) {
+            order.getOrderItems().add(OrderItem.builder()
+                    .id(orderId * 10_000 + i)
+                    .order(order)
+                    .item(item(i + 1L))
+                    .quantity(1L + i % 7)
+                    .build());
+        }
+        return order;
+    }
+
+    static List<Order> orders(final int count, final int linesPerOrder) {
+        final List<Order> orders = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            orders.add(order(i + 1L, linesPerOrder));
+        }
+        return orders;
+    }
+
+    static Item item(final long id) {
+        return Item.builder()
+                .id(id)
+                .name("Item " + id)
+                .price(BigDecimal.valueOf(199 + id * 37 % 10_000, 2))
+                .build();
+    }
+
+    static OrderUpdateDto updateDto(final int itemsPerSection) {
+        final Set<Long> toRemove = new HashSet<>();
+        final List<OrderItemUpdateDto> toUpdate = new ArrayList<>();
+        final List<OrderItemCreateDto> toAdd = new ArrayList<>();
+        for (long i = 0; i < itemsPerSection; i++) {
+            toRemove.add(i);
+            toUpdate.add(OrderItemUpdateDto.builder().itemId(i + itemsPerSection / 2).quantity(3L).build());
+            toAdd.add(OrderItemCreateDto.builder().itemId(i + itemsPerSection).quantity(2L).build());
+        }
+        return OrderUpdateDto.builder()
+                .id(1L)
+                .idsToRemove(toRemove)
+                .itemsToUpdate(toUpdate)
+                .itemsToAdd(toAdd)
+                .build();
+    }
+}
@@ -0,0 +1,71 @@
+package com.example.orderservice.benchmark;
+
+import com.example.orderservice.dto.event.PaymentEventDto;
+import com.example.orderservice.dto.event.PaymentStatus;
+import com.example.orderservice.dto.order.OrderResponseDto;
+import com.example.orderservice.mapper.order.OrderMapper;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.context.annotation.AnnotationConfigApplicationContext;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Jackson work on the order hot paths: serializing order listings for the
+ * REST API and parsing payment events the way CreatePaymentListener does.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class OrderJsonBenchmark {
+
+    @Param({"10", "100"})
+    private int orders;
+
+    private ObjectMapper objectMapper;
+    private List<OrderResponseDto> responseDtos;
+    private String paymentEvent;
+
+    @Setup
+    public void setUp() throws JsonProcessingException {
+        objectMapper = Jackson2ObjectMapperBuilder.json().build();
+        try (AnnotationConfigApplicationContext mappers =
+                     new AnnotationConfigApplicationContext("com.example.orderservice.mapper")) {
+            responseDtos = mappers.getBean(OrderMapper.class)
+                    .toResponseDtoList(OrderFixtures.orders(orders, 10));
+        }
+        paymentEvent = objectMapper.writeValueAsString(PaymentEventDto.builder()
+                .paymentId("5f0c8a1e-2b44-4c1e-9a77-1d2f3e4a5b6c")
+                .orderId(42L)
+                .date(LocalDateTime.of(2024, 1, 1, 12, 0))
+                .paymentStatus(PaymentStatus.SUCCESS)
+                .build());
+    }
+
+    @Benchmark
+    public String serializeOrderResponses() throws JsonProcessingException {
+        return objectMapper.writeValueAsString(responseDtos);
+    }
+
+    @Benchmark
+    public PaymentEventDto parsePaymentEvent() throws JsonProcessingException {
+        return objectMapper.readValue(paymentEvent, PaymentEventDto.class);
+    }
+}
@@ -0,0 +1,57 @@
+package com.example.orderservice.benchmark;
+
+import com.example.orderservice.dto.order.OrderResponseDto;
+import com.example.orderservice.mapper.order.OrderMapper;
+import com.example.orderservice.model.Order;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.context.annotation.AnnotationConfigApplicationContext;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class OrderMapperBenchmark {
+
+    @Param({"100"})
+    private int orders;
+
+    @Param({"10", "100"})
+    private int linesPerOrder;
+
+    private AnnotationConfigApplicationContext mappers;
+    private OrderMapper orderMapper;
+    private List<Order> graph;
+
+    @Setup
+    public void setUp() {
+        mappers = new AnnotationConfigApplicationContext("com.example.orderservice.mapper");
+        orderMapper = mappers.getBean(OrderMapper.class);
+        graph = OrderFixtures.orders(orders, linesPerOrder);
+    }
+
+    @TearDown
+    public void tearDown() {
+        mappers.close();
+    }
+
+    @Benchmark
+    public List<OrderResponseDto> toResponseDtoList() {
+        return orderMapper.toResponseDtoList(graph);
+    }
+}
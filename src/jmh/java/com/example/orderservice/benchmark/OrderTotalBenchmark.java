@@ -0,0 +1,67 @@
+package com.example.orderservice.benchmark;
+
+import com.example.orderservice.model.Money;
+import com.example.orderservice.model.OrderItem;
+import com.example.orderservice.service.order.OrderTotalCalculator;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.math.BigDecimal;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class OrderTotalBenchmark {
+
+    @Param({"10", "100", "500", "1000"})
+    private int lines;
+
+    private List<OrderItem> orderItems;
+    private Map<Long, Money> unitPrices;
+
+    /**
+     * Unit prices are converted once up front, as the item catalog does when
+     * it loads its snapshot.
+     */
+    @Setup
+    public void setUp() {
+        orderItems = OrderFixtures.order(1L, lines).getOrderItems();
+        unitPrices = new HashMap<>();
+        for (final OrderItem oi : orderItems) {
+            unitPrices.put(oi.getItem().getId(), Money.of(oi.getItem().getPrice()));
+        }
+    }
+
+    @Benchmark
+    public Money minorUnitsTotal() {
+        return OrderTotalCalculator.calculate(orderItems, item -> unitPrices.get(item.getId()));
+    }
+
+    /**
+     * The previous BigDecimal loop, kept as the baseline for {@link #minorUnitsTotal()}.
+     */
+    @Benchmark
+    public BigDecimal bigDecimalTotal() {
+        BigDecimal total = BigDecimal.ZERO;
+        for (final OrderItem oi : orderItems) {
+            total = total.add(oi.getItem().getPrice().multiply(BigDecimal.valueOf(oi.getQuantity())));
+        }
+        return total;
+    }
+}
@@ -0,0 +1,43 @@
+package com.example.orderservice.benchmark;
+
+import com.example.orderservice.dto.order.Operation;
+import com.example.orderservice.dto.order.OrderUpdateDto;
+import com.example.orderservice.dto.order.OrderUpdateNormalizer;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class OrderUpdateNormalizerBenchmark {
+
+    @Param({"10", "100", "1000"})
+    private int itemsPerSection;
+
+    private OrderUpdateDto updateDto;
+
+    @Setup
+    public void setUp() {
+        updateDto = OrderFixtures.updateDto(itemsPerSection);
+    }
+
+    @Benchmark
+    public Map<Long, Operation> normalize() {
+        return OrderUpdateNormalizer.normalize(updateDto);
+    }
+}
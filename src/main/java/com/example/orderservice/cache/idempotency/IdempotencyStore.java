@@ -0,0 +1,20 @@
+package com.example.orderservice.cache.idempotency;
+
+import java.time.Duration;
+import java.util.Optional;
+
+public interface IdempotencyStore {
+
+    /**
+     * Stores {@code value} only if {@code key} is absent, atomically.
+     *
+     * @return {@code true} if the value was stored
+     */
+    boolean putIfAbsent(final String key, final String value, final Duration ttl);
+
+    Optional<String> get(final String key);
+
+    void put(final String key, final String value, final Duration ttl);
+
+    void remove(final String key);
+}
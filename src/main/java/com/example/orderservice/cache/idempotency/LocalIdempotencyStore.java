@@ -0,0 +1,57 @@
+package com.example.orderservice.cache.idempotency;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * In-process stand-in for {@link RedisIdempotencyStore}, meant for tests and local runs.
+ */
+@Component
+@ConditionalOnProperty(name = "order.idempotency.store-type", havingValue = "local")
+public class LocalIdempotencyStore implements IdempotencyStore {
+
+    private final Map<String, Entry> entries = new ConcurrentHashMap<>();
+
+    @Override
+    public boolean putIfAbsent(final String key, final String value, final Duration ttl) {
+        final Entry candidate = new Entry(value, System.nanoTime() + ttl.toNanos());
+        final Entry current = entries.compute(key, (k, existing) ->
+                existing == null || existing.isExpired() ? candidate : existing);
+        return current == candidate;
+    }
+
+    @Override
+    public Optional<String> get(final String key) {
+        final Entry entry = entries.get(key);
+        if (entry == null) {
+            return Optional.empty();
+        }
+        if (entry.isExpired()) {
+            entries.remove(key, entry);
+            return Optional.empty();
+        }
+        return Optional.of(entry.value());
+    }
+
+    @Override
+    public void put(final String key, final String value, final Duration ttl) {
+        entries.put(key, new Entry(value, System.nanoTime() + ttl.toNanos()));
+    }
+
+    @Override
+    public void remove(final String key) {
+        entries.remove(key);
+    }
+
+    private record Entry(String value, long expiresAt) {
+
+        boolean isExpired() {
+            return expiresAt - System.nanoTime() <= 0;
+        }
+    }
+}
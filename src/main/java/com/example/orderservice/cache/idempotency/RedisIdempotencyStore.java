@@ -0,0 +1,62 @@
+package com.example.orderservice.cache.idempotency;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.Optional;
+
+/**
+ * Idempotency records in Redis, shared by all instances. If Redis is down,
+ * requests are let through unprotected rather than rejected.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "order.idempotency.store-type", havingValue = "redis", matchIfMissing = true)
+public class RedisIdempotencyStore implements IdempotencyStore {
+
+    private final StringRedisTemplate redis;
+
+    @Override
+    public boolean putIfAbsent(final String key, final String value, final Duration ttl) {
+        try {
+            return Boolean.TRUE.equals(redis.opsForValue().setIfAbsent(key, value, ttl));
+        } catch (DataAccessException e) {
+            log.warn("Redis unavailable, processing {} without idempotency protection", key, e);
+            return true;
+        }
+    }
+
+    @Override
+    public Optional<String> get(final String key) {
+        try {
+            return Optional.ofNullable(redis.opsForValue().get(key));
+        } catch (DataAccessException e) {
+            log.warn("Redis read failed for {}", key, e);
+            return Optional.empty();
+        }
+    }
+
+    @Override
+    public void put(final String key, final String value, final Duration ttl) {
+        try {
+            redis.opsForValue().set(key, value, ttl);
+        } catch (DataAccessException e) {
+            log.warn("Redis write failed for {}", key, e);
+        }
+    }
+
+    @Override
+    public void remove(final String key) {
+        try {
+            redis.delete(key);
+        } catch (DataAccessException e) {
+            log.error("Redis delete failed for {}, key stays until its TTL expires", key, e);
+        }
+    }
+}
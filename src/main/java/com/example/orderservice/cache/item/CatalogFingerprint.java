@@ -0,0 +1,10 @@
+package com.example.orderservice.cache.item;
+
+/**
+ * Cheap summary of the items table. Any insert, delete or versioned update
+ * changes at least one component.
+ */
+public record CatalogFingerprint(Long count, Long maxId, Long versionSum) {
+
+    public static final CatalogFingerprint EMPTY = new CatalogFingerprint(0L, 0L, 0L);
+}
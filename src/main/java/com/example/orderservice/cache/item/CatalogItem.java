@@ -0,0 +1,31 @@
+package com.example.orderservice.cache.item;
+
+import com.example.orderservice.model.Item;
+import com.example.orderservice.model.Money;
+
+import java.math.BigDecimal;
+
+/**
+ * Immutable copy of an item row held by {@link ItemCatalog}. The price is
+ * also kept in minor units, converted once when the row is loaded.
+ */
+public record CatalogItem(Long id, String name, BigDecimal price, Money unitPrice, Long version) {
+
+    static CatalogItem of(final Item item) {
+        return new CatalogItem(item.getId(), item.getName(), item.getPrice(),
+                Money.of(item.getPrice()), item.getVersion());
+    }
+
+    /**
+     * A detached {@link Item} carrying id and version, usable as a foreign-key
+     * reference without loading the row.
+     */
+    public Item toItem() {
+        return Item.builder()
+                .id(id)
+                .name(name)
+                .price(price)
+                .version(version)
+                .build();
+    }
+}
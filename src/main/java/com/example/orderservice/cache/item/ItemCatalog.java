@@ -0,0 +1,245 @@
+package com.example.orderservice.cache.item;
+
+import com.example.orderservice.model.Item;
+import com.example.orderservice.model.Money;
+import com.example.orderservice.repository.item.ItemRepository;
+import com.example.orderservice.util.ReadYourWrites;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+
+/**
+ * In-process copy of the items table. Readers work on an immutable snapshot
+ * that is swapped atomically; writers copy it, apply their change and publish
+ * the copy.
+ * <p>
+ * Local item changes are applied after commit by {@code ItemServiceImpl};
+ * changes made by other instances are picked up by a periodic fingerprint
+ * check. Ids missing from the snapshot are looked up in the database and
+ * added, so a stale snapshot never hides an existing item.
+ * <p>
+ * Every published change bumps a generation counter. Snapshots built from a
+ * database read are only published if the generation has not moved since the
+ * read started, so a slow read never undoes a put or remove applied meanwhile.
+ */
+@Slf4j
+@Component
+public class ItemCatalog {
+
+    private record Snapshot(Map<Long, CatalogItem> byId,
+                            Map<String, Long> idsByName,
+                            CatalogFingerprint fingerprint) {
+
+        static final Snapshot EMPTY = new Snapshot(Map.of(), Map.of(), CatalogFingerprint.EMPTY);
+
+        /**
+         * Computes the fingerprint from the content, the same way
+         * {@link ItemRepository#fingerprint()} does on the table.
+         */
+        static Snapshot of(final Map<Long, CatalogItem> byId, final Map<String, Long> idsByName) {
+            long maxId = 0;
+            long versionSum = 0;
+            for (final CatalogItem item : byId.values()) {
+                maxId = Math.max(maxId, item.id());
+                versionSum += item.version() == null ? 0 : item.version();
+            }
+            return new Snapshot(Map.copyOf(byId), Map.copyOf(idsByName),
+                    new CatalogFingerprint((long) byId.size(), maxId, versionSum));
+        }
+    }
+
+    private static final int MAX_RELOAD_ATTEMPTS = 3;
+
+    private final ItemRepository itemRepository;
+
+    private final Counter hits;
+    private final Counter misses;
+
+    private volatile Snapshot snapshot = Snapshot.EMPTY;
+
+    private long generation;
+
+    public ItemCatalog(final ItemRepository itemRepository, final MeterRegistry meterRegistry) {
+        this.itemRepository = itemRepository;
+        this.hits = Counter.builder("order.item-catalog.lookups")
+                .tag("result", "hit")
+                .register(meterRegistry);
+        this.misses = Counter.builder("order.item-catalog.lookups")
+                .tag("result", "miss")
+                .register(meterRegistry);
+        Gauge.builder("order.item-catalog.size", this, catalog -> catalog.snapshot.byId().size())
+                .register(meterRegistry);
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void reload() {
+        for (int attempt = 1; attempt <= MAX_RELOAD_ATTEMPTS; attempt++) {
+            final long readGeneration = currentGeneration();
+            final List<Item> items = ReadYourWrites.onPrimary(itemRepository::findAll);
+
+            final Map<Long, CatalogItem> byId = new HashMap<>(items.size() * 2);
+            final Map<String, Long> idsByName = new HashMap<>(items.size() * 2);
+            for (final Item item : items) {
+                byId.put(item.getId(), CatalogItem.of(item));
+                idsByName.put(normalizeName(item.getName()), item.getId());
+            }
+            synchronized (this) {
+                if (generation == readGeneration) {
+                    publish(Snapshot.of(byId, idsByName));
+                    log.debug("Item catalog loaded with {} items", byId.size());
+                    return;
+                }
+            }
+        }
+        log.debug("Item catalog changed during {} reload attempts, keeping the current snapshot",
+                MAX_RELOAD_ATTEMPTS);
+    }
+
+    @Scheduled(initialDelayString = "${order.item-catalog.refresh-interval-ms:30000}",
+            fixedDelayString = "${order.item-catalog.refresh-interval-ms:30000}")
+    public void reloadIfChanged() {
+        final CatalogFingerprint current = ReadYourWrites.onPrimary(itemRepository::fingerprint);
+        if (current != null && !current.equals(snapshot.fingerprint())) {
+            reload();
+        }
+    }
+
+    /**
+     * Fingerprint of the current snapshot. It changes with every insert,
+     * delete or versioned update that reaches this instance, and equals the
+     * fingerprint of any other instance holding the same rows.
+     */
+    public CatalogFingerprint fingerprint() {
+        return snapshot.fingerprint();
+    }
+
+    /**
+     * Returns all items ordered by id.
+     */
+    public List<Item> findAll() {
+        return snapshot.byId().values().stream()
+                .sorted(Comparator.comparing(CatalogItem::id))
+                .map(CatalogItem::toItem)
+                .toList();
+    }
+
+    public Optional<Item> findItem(final Long id) {
+        return Optional.ofNullable(findItems(List.of(id)).get(id));
+    }
+
+    /**
+     * Returns the existing items among {@code ids}, keyed by id in request order.
+     */
+    public Map<Long, Item> findItems(final Collection<Long> ids) {
+        final Map<Long, CatalogItem> byId = snapshot.byId();
+        final Map<Long, Item> found = new LinkedHashMap<>(ids.size() * 2);
+        final List<Long> missing = new ArrayList<>();
+        for (final Long id : ids) {
+            final CatalogItem item = byId.get(id);
+            if (item != null) {
+                found.put(id, item.toItem());
+            } else {
+                missing.add(id);
+            }
+        }
+        hits.increment(found.size());
+
+        if (!missing.isEmpty()) {
+            misses.increment(missing.size());
+            final long readGeneration = currentGeneration();
+            final List<Item> loaded = ReadYourWrites.onPrimary(() -> itemRepository.findExistingItems(missing));
+            loaded.forEach(item -> found.put(item.getId(), CatalogItem.of(item).toItem()));
+            putAllIfUnchanged(loaded, readGeneration);
+        }
+        return found;
+    }
+
+    /**
+     * Unit price of {@code item} in minor units. Served from the snapshot when
+     * it holds the same version of the item, converted from the item otherwise.
+     */
+    public Money unitPriceOf(final Item item) {
+        final CatalogItem cached = snapshot.byId().get(item.getId());
+        if (cached != null && Objects.equals(cached.version(), item.getVersion())) {
+            return cached.unitPrice();
+        }
+        return Money.of(item.getPrice());
+    }
+
+    /**
+     * Looks the name up case-insensitively, matching the unique constraint on
+     * {@code items.name}.
+     */
+    public Optional<Long> findIdByName(final String name) {
+        return Optional.ofNullable(snapshot.idsByName().get(normalizeName(name)));
+    }
+
+    public void put(final Item item) {
+        putAll(List.of(item));
+    }
+
+    public synchronized void remove(final Long id) {
+        final CatalogItem removed = snapshot.byId().get(id);
+        if (removed == null) {
+            // Still a change: a database read in flight may hold the deleted row
+            generation++;
+            return;
+        }
+        final Map<Long, CatalogItem> byId = new HashMap<>(snapshot.byId());
+        final Map<String, Long> idsByName = new HashMap<>(snapshot.idsByName());
+        byId.remove(id);
+        idsByName.remove(normalizeName(removed.name()), id);
+        publish(Snapshot.of(byId, idsByName));
+    }
+
+    private synchronized long currentGeneration() {
+        return generation;
+    }
+
+    private synchronized void putAllIfUnchanged(final Collection<Item> items, final long readGeneration) {
+        if (generation == readGeneration) {
+            putAll(items);
+        }
+    }
+
+    private synchronized void putAll(final Collection<Item> items) {
+        if (items.isEmpty()) {
+            return;
+        }
+        final Map<Long, CatalogItem> byId = new HashMap<>(snapshot.byId());
+        final Map<String, Long> idsByName = new HashMap<>(snapshot.idsByName());
+        for (final Item item : items) {
+            final CatalogItem previous = byId.put(item.getId(), CatalogItem.of(item));
+            if (previous != null && !Objects.equals(previous.name(), item.getName())) {
+                idsByName.remove(normalizeName(previous.name()), item.getId());
+            }
+            idsByName.put(normalizeName(item.getName()), item.getId());
+        }
+        publish(Snapshot.of(byId, idsByName));
+    }
+
+    private void publish(final Snapshot next) {
+        snapshot = next;
+        generation++;
+    }
+
+    private static String normalizeName(final String name) {
+        return name.toLowerCase(Locale.ROOT);
+    }
+}
@@ -0,0 +1,128 @@
+package com.example.orderservice.cache.order;
+
+import com.example.orderservice.dto.order.OrderResponseDto;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+
+import java.time.Duration;
+import java.util.Optional;
+
+/**
+ * Stores orders as JSON so every implementation hands out detached copies
+ * and behaves the same way regardless of where the bytes live.
+ * <p>
+ * Each order also has a generation that every eviction bumps. A put only
+ * lands if the generation still equals the stamp taken before the load, and
+ * implementations make that check and the write one atomic step.
+ */
+@Slf4j
+public abstract class AbstractOrderCache implements OrderCache {
+
+    private static final String KEY_PREFIX = "order:";
+    private static final String GENERATION_SUFFIX = ":generation";
+
+    /**
+     * Stamp for a generation that could not be read; puts carrying it are dropped.
+     */
+    protected static final long UNKNOWN_GENERATION = -1L;
+
+    private final ObjectMapper objectMapper;
+    private final Duration ttl;
+
+    private final Counter hits;
+    private final Counter misses;
+    private final Counter evictions;
+
+    protected AbstractOrderCache(final ObjectMapper objectMapper,
+                                 final MeterRegistry meterRegistry,
+                                 final Duration ttl,
+                                 final String cacheType) {
+        this.objectMapper = objectMapper;
+        this.ttl = ttl;
+        this.hits = Counter.builder("order.cache.requests")
+                .tag("cache", cacheType)
+                .tag("result", "hit")
+                .register(meterRegistry);
+        this.misses = Counter.builder("order.cache.requests")
+                .tag("cache", cacheType)
+                .tag("result", "miss")
+                .register(meterRegistry);
+        this.evictions = Counter.builder("order.cache.evictions")
+                .tag("cache", cacheType)
+                .register(meterRegistry);
+    }
+
+    @Override
+    public Optional<OrderResponseDto> get(final Long orderId) {
+        final String json = read(key(orderId));
+        if (json == null) {
+            misses.increment();
+            return Optional.empty();
+        }
+        try {
+            final OrderResponseDto order = objectMapper.readValue(json, OrderResponseDto.class);
+            hits.increment();
+            return Optional.of(order);
+        } catch (JsonProcessingException e) {
+            log.warn("Dropping unreadable cache entry for order {}", orderId, e);
+            delete(key(orderId));
+            misses.increment();
+            return Optional.empty();
+        }
+    }
+
+    @Override
+    public long readStamp(final Long orderId) {
+        return readGeneration(generationKey(orderId));
+    }
+
+    @Override
+    public void put(final OrderResponseDto order, final long readStamp) {
+        if (readStamp == UNKNOWN_GENERATION) {
+            return;
+        }
+        try {
+            writeIfGeneration(key(order.getId()), generationKey(order.getId()),
+                    objectMapper.writeValueAsString(order), ttl, readStamp);
+        } catch (JsonProcessingException e) {
+            log.warn("Order {} could not be cached", order.getId(), e);
+        }
+    }
+
+    @Override
+    public void evict(final Long orderId) {
+        invalidate(key(orderId), generationKey(orderId), ttl);
+        evictions.increment();
+    }
+
+    protected abstract String read(final String key);
+
+    protected abstract long readGeneration(final String generationKey);
+
+    /**
+     * Writes {@code value} only if the generation still equals {@code generation}.
+     */
+    protected abstract void writeIfGeneration(final String key, final String generationKey,
+                                              final String value, final Duration ttl, final long generation);
+
+    /**
+     * Bumps the generation, keeping it for at least {@code ttl}, and deletes the entry.
+     */
+    protected abstract void invalidate(final String key, final String generationKey, final Duration ttl);
+
+    protected abstract void delete(final String key);
+
+    /**
+     * Hash tag keeps an order's entry and generation in one Redis cluster slot.
+     */
+    private static String key(final Long orderId) {
+        return KEY_PREFIX + "{" + orderId + "}";
+    }
+
+    private static String generationKey(final Long orderId) {
+        return key(orderId) + GENERATION_SUFFIX;
+    }
+}
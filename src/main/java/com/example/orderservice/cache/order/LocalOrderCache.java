@@ -0,0 +1,69 @@
+package com.example.orderservice.cache.order;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * In-process stand-in for {@link RedisOrderCache}, meant for tests and local runs.
+ * Generations are striped, so a collision only costs an extra miss.
+ */
+@Component
+@ConditionalOnProperty(name = "order.cache.type", havingValue = "local")
+public class LocalOrderCache extends AbstractOrderCache {
+
+    private static final int GENERATION_STRIPES = 1024;
+
+    private final Cache<String, String> entries;
+    private final AtomicLongArray generations = new AtomicLongArray(GENERATION_STRIPES);
+
+    public LocalOrderCache(final ObjectMapper objectMapper,
+                           final MeterRegistry meterRegistry,
+                           @Value("${order.cache.ttl:10m}") final Duration ttl,
+                           @Value("${order.cache.local.max-size:10000}") final long maxSize) {
+        super(objectMapper, meterRegistry, ttl, "local");
+        this.entries = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfterWrite(ttl)
+                .build();
+    }
+
+    @Override
+    protected String read(final String key) {
+        return entries.getIfPresent(key);
+    }
+
+    @Override
+    protected long readGeneration(final String generationKey) {
+        return generations.get(stripe(generationKey));
+    }
+
+    @Override
+    protected void writeIfGeneration(final String key, final String generationKey,
+                                     final String value, final Duration ttl, final long generation) {
+        entries.asMap().compute(key, (k, cached) ->
+                generations.get(stripe(generationKey)) == generation ? value : cached);
+    }
+
+    @Override
+    protected void invalidate(final String key, final String generationKey, final Duration ttl) {
+        generations.incrementAndGet(stripe(generationKey));
+        entries.invalidate(key);
+    }
+
+    @Override
+    protected void delete(final String key) {
+        entries.invalidate(key);
+    }
+
+    private static int stripe(final String generationKey) {
+        return Math.floorMod(generationKey.hashCode(), GENERATION_STRIPES);
+    }
+}
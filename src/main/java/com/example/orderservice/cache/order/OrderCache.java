@@ -0,0 +1,24 @@
+package com.example.orderservice.cache.order;
+
+import com.example.orderservice.dto.order.OrderResponseDto;
+
+import java.util.Optional;
+
+public interface OrderCache {
+
+    Optional<OrderResponseDto> get(final Long orderId);
+
+    /**
+     * Returns the eviction stamp of {@code orderId}. Take it before loading the
+     * order that will be passed to {@link #put(OrderResponseDto, long)}.
+     */
+    long readStamp(final Long orderId);
+
+    /**
+     * Caches {@code order} unless it was evicted since {@code readStamp} was
+     * taken, so a load that raced a committed change is not kept for the TTL.
+     */
+    void put(final OrderResponseDto order, final long readStamp);
+
+    void evict(final Long orderId);
+}
@@ -0,0 +1,233 @@
+package com.example.orderservice.cache.order;
+
+import com.example.orderservice.repository.order.OrderRepository;
+import com.example.orderservice.util.CountingBloomFilter;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.Limit;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.Deque;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedDeque;
+
+/**
+ * Counting Bloom filter of existing order ids that answers definite negatives
+ * for existence checks without touching the database.
+ * <p>
+ * The filter is built from the orders table at startup and rebuilt
+ * periodically; orders created here are added right after they are saved and
+ * deleted orders are removed after commit. Ids added within the recent window
+ * are copied into every rebuilt filter, because their transactions may not
+ * have been visible to the rebuild scan. Until the first build finishes every
+ * id is reported as possibly present.
+ * <p>
+ * Orders created by other instances only reach the filter on the next
+ * rebuild, so the filter is disabled by default and meant for deployments
+ * where a single instance writes orders.
+ * <p>
+ * A counting filter may only decrement keys it holds, otherwise it clears
+ * counters shared with other ids and turns them into false negatives. Each
+ * filter therefore keeps the ids of its rebuild scan, as a sorted array, and
+ * the ids added to it since, and a removal is applied only once and only for
+ * those ids.
+ */
+@Slf4j
+@Component
+public class OrderIdFilter {
+
+    private record RecentId(long id, long addedAt) { }
+
+    /**
+     * A filter together with the ids it holds.
+     */
+    private static final class Generation {
+
+        private static final long[] NO_IDS = new long[0];
+
+        private final CountingBloomFilter filter;
+        private final Set<Long> addedIds = ConcurrentHashMap.newKeySet();
+        private final Set<Long> removedIds = ConcurrentHashMap.newKeySet();
+        private volatile long[] scannedIds = NO_IDS;
+
+        private Generation(final CountingBloomFilter filter) {
+            this.filter = filter;
+        }
+
+        private void add(final long id) {
+            if (Arrays.binarySearch(scannedIds, id) < 0 && addedIds.add(id)) {
+                filter.add(id);
+            }
+        }
+
+        private void remove(final long id) {
+            final boolean held = addedIds.remove(id)
+                    || Arrays.binarySearch(scannedIds, id) >= 0 && removedIds.add(id);
+            if (held) {
+                filter.remove(id);
+            }
+        }
+    }
+
+    private final OrderRepository orderRepository;
+
+    private final boolean enabled;
+    private final long expectedInsertions;
+    private final double falsePositiveRate;
+    private final int rebuildPageSize;
+    private final long recentWindowNanos;
+
+    private final Deque<RecentId> recentIds = new ConcurrentLinkedDeque<>();
+
+    private final Counter negatives;
+    private final Counter positives;
+    private final Counter falsePositives;
+
+    private volatile Generation current;
+    private volatile Generation building;
+
+    public OrderIdFilter(final OrderRepository orderRepository,
+                         final MeterRegistry meterRegistry,
+                         @Value("${order.id-filter.enabled:false}") final boolean enabled,
+                         @Value("${order.id-filter.expected-insertions:1000000}") final long expectedInsertions,
+                         @Value("${order.id-filter.false-positive-rate:0.01}") final double falsePositiveRate,
+                         @Value("${order.id-filter.rebuild-page-size:10000}") final int rebuildPageSize,
+                         @Value("${order.id-filter.recent-window:5m}") final Duration recentWindow) {
+        this.orderRepository = orderRepository;
+        this.enabled = enabled;
+        this.expectedInsertions = expectedInsertions;
+        this.falsePositiveRate = falsePositiveRate;
+        this.rebuildPageSize = rebuildPageSize;
+        this.recentWindowNanos = recentWindow.toNanos();
+
+        this.negatives = Counter.builder("order.id-filter.checks")
+                .tag("result", "negative")
+                .register(meterRegistry);
+        this.positives = Counter.builder("order.id-filter.checks")
+                .tag("result", "positive")
+                .register(meterRegistry);
+        this.falsePositives = Counter.builder("order.id-filter.false-positives")
+                .register(meterRegistry);
+        Gauge.builder("order.id-filter.expected-fpp", this,
+                        idFilter -> idFilter.current == null ? 0 : idFilter.current.filter.expectedFalsePositiveRate())
+                .register(meterRegistry);
+        Gauge.builder("order.id-filter.memory", this,
+                        idFilter -> idFilter.current == null ? 0 : idFilter.current.filter.memoryBytes())
+                .baseUnit("bytes")
+                .register(meterRegistry);
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    @Scheduled(initialDelayString = "${order.id-filter.rebuild-interval-ms:600000}",
+            fixedDelayString = "${order.id-filter.rebuild-interval-ms:600000}")
+    public synchronized void rebuild() {
+        if (!enabled) {
+            return;
+        }
+        final long started = System.nanoTime();
+        final Generation next = new Generation(CountingBloomFilter.create(
+                Math.max(expectedInsertions, orderRepository.count() * 2), falsePositiveRate));
+        building = next;
+        try {
+            long[] scanned = new long[rebuildPageSize];
+            int scannedCount = 0;
+            long afterId = 0;
+            List<Long> ids;
+            do {
+                ids = orderRepository.findIdsAfter(afterId, Limit.of(rebuildPageSize));
+                if (scannedCount + ids.size() > scanned.length) {
+                    scanned = Arrays.copyOf(scanned, Math.max(scanned.length * 2, scannedCount + ids.size()));
+                }
+                for (final Long id : ids) {
+                    next.filter.add(id);
+                    scanned[scannedCount++] = id;
+                }
+                if (!ids.isEmpty()) {
+                    afterId = ids.getLast();
+                }
+            } while (ids.size() == rebuildPageSize);
+
+            // Ids added during the scan and also seen by it were counted twice;
+            // the extra count only keeps a removed id as a false positive.
+            next.scannedIds = Arrays.copyOf(scanned, scannedCount);
+            pruneRecentIds();
+            recentIds.forEach(recent -> next.add(recent.id()));
+            current = next;
+        } finally {
+            building = null;
+        }
+        log.debug("Order id filter rebuilt with {} ids in {} ms",
+                next.filter.approximateSize(), Duration.ofNanos(System.nanoTime() - started).toMillis());
+    }
+
+    /**
+     * Returns {@code false} only if the order definitely does not exist.
+     */
+    public boolean mightContain(final Long orderId) {
+        final Generation generation = current;
+        if (generation == null) {
+            return true;
+        }
+        if (generation.filter.mightContain(orderId)) {
+            positives.increment();
+            return true;
+        }
+        negatives.increment();
+        return false;
+    }
+
+    public void add(final Long orderId) {
+        if (!enabled) {
+            return;
+        }
+        recentIds.addLast(new RecentId(orderId, System.nanoTime()));
+        final Generation generation = current;
+        if (generation != null) {
+            generation.add(orderId);
+        }
+        final Generation next = building;
+        if (next != null) {
+            next.add(orderId);
+        }
+        pruneRecentIds();
+    }
+
+    /**
+     * Called after the delete of an order committed. Deletes of ids the filter
+     * does not hold, repeated deletes and deletes that race with a rebuild are
+     * skipped, which at worst leaves a false positive behind.
+     */
+    public void remove(final Long orderId) {
+        final Generation generation = current;
+        if (generation != null && building == null) {
+            generation.remove(orderId);
+        }
+    }
+
+    /**
+     * Records that a positive answer turned out to be wrong.
+     */
+    public void recordFalsePositive() {
+        if (current != null) {
+            falsePositives.increment();
+        }
+    }
+
+    private void pruneRecentIds() {
+        final long now = System.nanoTime();
+        RecentId oldest;
+        while ((oldest = recentIds.peekFirst()) != null && now - oldest.addedAt() > recentWindowNanos) {
+            recentIds.remove(oldest);
+        }
+    }
+}
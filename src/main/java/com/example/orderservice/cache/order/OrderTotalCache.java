@@ -0,0 +1,89 @@
+package com.example.orderservice.cache.order;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.util.Collection;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * Per-instance cache of order totals for the polling endpoints. Entries are
+ * evicted locally on every order mutation; the short TTL bounds how long
+ * another instance can serve a total changed elsewhere.
+ * <p>
+ * Read-through callers take a {@link #readStamp(Long)} before querying and pass
+ * it to {@link #put(Long, BigDecimal, long)}. Every eviction bumps the stamp of
+ * its stripe, so a total read before an update commits is dropped instead of
+ * outliving the eviction that followed it. Collisions within a stripe only
+ * cost an extra miss.
+ */
+@Component
+public class OrderTotalCache {
+
+    private static final int STAMP_STRIPES = 1024;
+
+    private final Cache<Long, BigDecimal> totals;
+    private final AtomicLongArray stamps = new AtomicLongArray(STAMP_STRIPES);
+
+    private final Counter hits;
+    private final Counter misses;
+
+    public OrderTotalCache(final MeterRegistry meterRegistry,
+                           @Value("${order.total-cache.max-size:50000}") final long maxSize,
+                           @Value("${order.total-cache.ttl:30s}") final Duration ttl) {
+        this.totals = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfterWrite(ttl)
+                .build();
+        this.hits = Counter.builder("order.total-cache.requests")
+                .tag("result", "hit")
+                .register(meterRegistry);
+        this.misses = Counter.builder("order.total-cache.requests")
+                .tag("result", "miss")
+                .register(meterRegistry);
+    }
+
+    public Optional<BigDecimal> get(final Long orderId) {
+        final BigDecimal total = totals.getIfPresent(orderId);
+        (total == null ? misses : hits).increment();
+        return Optional.ofNullable(total);
+    }
+
+    public Map<Long, BigDecimal> getAll(final Collection<Long> orderIds) {
+        final Map<Long, BigDecimal> present = totals.getAllPresent(orderIds);
+        hits.increment(present.size());
+        misses.increment(orderIds.size() - present.size());
+        return present;
+    }
+
+    public long readStamp(final Long orderId) {
+        return stamps.get(stripe(orderId));
+    }
+
+    /**
+     * Caches {@code total} unless {@code orderId} was evicted since
+     * {@code readStamp} was taken. The check runs under the entry's lock, so it
+     * cannot interleave with the invalidation in {@link #evict(Long)}.
+     */
+    public void put(final Long orderId, final BigDecimal total, final long readStamp) {
+        totals.asMap().compute(orderId, (id, cached) ->
+                stamps.get(stripe(id)) == readStamp ? total : cached);
+    }
+
+    public void evict(final Long orderId) {
+        stamps.incrementAndGet(stripe(orderId));
+        totals.invalidate(orderId);
+    }
+
+    private static int stripe(final Long orderId) {
+        return Math.floorMod(orderId.hashCode(), STAMP_STRIPES);
+    }
+}
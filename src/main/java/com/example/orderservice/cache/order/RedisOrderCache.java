@@ -0,0 +1,94 @@
+package com.example.orderservice.cache.order;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.List;
+
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "order.cache.type", havingValue = "redis", matchIfMissing = true)
+public class RedisOrderCache extends AbstractOrderCache {
+
+    private static final RedisScript<Long> WRITE_IF_GENERATION = RedisScript.of("""
+            if (redis.call('GET', KEYS[2]) or '0') == ARGV[1] then
+                redis.call('SET', KEYS[1], ARGV[2], 'PX', ARGV[3])
+                return 1
+            end
+            return 0
+            """, Long.class);
+
+    private static final RedisScript<Long> INVALIDATE = RedisScript.of("""
+            redis.call('INCR', KEYS[2])
+            redis.call('PEXPIRE', KEYS[2], ARGV[1])
+            return redis.call('DEL', KEYS[1])
+            """, Long.class);
+
+    private final StringRedisTemplate redis;
+
+    public RedisOrderCache(final StringRedisTemplate redis,
+                           final ObjectMapper objectMapper,
+                           final MeterRegistry meterRegistry,
+                           @Value("${order.cache.ttl:10m}") final Duration ttl) {
+        super(objectMapper, meterRegistry, ttl, "redis");
+        this.redis = redis;
+    }
+
+    @Override
+    protected String read(final String key) {
+        try {
+            return redis.opsForValue().get(key);
+        } catch (DataAccessException e) {
+            log.warn("Redis read failed for {}, falling back to database", key, e);
+            return null;
+        }
+    }
+
+    @Override
+    protected long readGeneration(final String generationKey) {
+        try {
+            final String generation = redis.opsForValue().get(generationKey);
+            return generation == null ? 0 : Long.parseLong(generation);
+        } catch (DataAccessException e) {
+            log.warn("Redis read failed for {}, the loaded order will not be cached", generationKey, e);
+            return UNKNOWN_GENERATION;
+        }
+    }
+
+    @Override
+    protected void writeIfGeneration(final String key, final String generationKey,
+                                     final String value, final Duration ttl, final long generation) {
+        try {
+            redis.execute(WRITE_IF_GENERATION, List.of(key, generationKey),
+                    Long.toString(generation), value, Long.toString(ttl.toMillis()));
+        } catch (DataAccessException e) {
+            log.warn("Redis write failed for {}", key, e);
+        }
+    }
+
+    @Override
+    protected void invalidate(final String key, final String generationKey, final Duration ttl) {
+        try {
+            redis.execute(INVALIDATE, List.of(key, generationKey), Long.toString(ttl.toMillis()));
+        } catch (DataAccessException e) {
+            log.error("Redis eviction failed for {}, entry stays until its TTL expires", key, e);
+        }
+    }
+
+    @Override
+    protected void delete(final String key) {
+        try {
+            redis.delete(key);
+        } catch (DataAccessException e) {
+            log.error("Redis eviction failed for {}, entry stays until its TTL expires", key, e);
+        }
+    }
+}
@@ -1,29 +1,144 @@
 package com.example.orderservice.client;
 
 import com.example.orderservice.exception.user.UserNotFoundException;
+import com.example.orderservice.exception.user.UserServiceUnavailableException;
+import com.github.benmanes.caffeine.cache.AsyncCache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import io.github.resilience4j.bulkhead.Bulkhead;
+import io.github.resilience4j.bulkhead.BulkheadRegistry;
+import io.github.resilience4j.circuitbreaker.CircuitBreaker;
+import io.github.resilience4j.circuitbreaker.CircuitBreakerRegistry;
+import io.github.resilience4j.reactor.bulkhead.operator.BulkheadOperator;
+import io.github.resilience4j.reactor.circuitbreaker.operator.CircuitBreakerOperator;
+import io.netty.channel.ChannelOption;
+import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.http.HttpStatusCode;
+import org.springframework.http.client.reactive.ReactorClientHttpConnector;
 import org.springframework.stereotype.Component;
 import org.springframework.web.reactive.function.client.WebClient;
 import reactor.core.publisher.Mono;
+import reactor.netty.http.client.HttpClient;
 
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+
+/**
+ * Checks user existence against the user service. Answers are cached per user
+ * (misses only briefly) and concurrent checks for the same user share a single
+ * outbound request. Failed calls are never cached.
+ * <p>
+ * Outbound calls are bounded by connect/response timeouts, a concurrency
+ * bulkhead and the {@code user-service} circuit breaker; any of those tripping,
+ * as well as 5xx answers and network errors, surface as
+ * {@link UserServiceUnavailableException}.
+ */
 @Component
 public class UserServiceClient {
+
+    public static final String RESILIENCE_NAME = "user-service";
+
+    private static final long DEFAULT_CACHE_MAX_SIZE = 10_000;
+    private static final Duration DEFAULT_CACHE_TTL = Duration.ofMinutes(5);
+    private static final Duration DEFAULT_NEGATIVE_CACHE_TTL = Duration.ofSeconds(10);
+    private static final Duration DEFAULT_CONNECT_TIMEOUT = Duration.ofSeconds(1);
+    private static final Duration DEFAULT_RESPONSE_TIMEOUT = Duration.ofSeconds(2);
+
     private final WebClient client;
+    private final AsyncCache<Long, Boolean> userExistence;
+    private final CircuitBreaker circuitBreaker;
+    private final Bulkhead bulkhead;
+
+    public UserServiceClient(final String baseUrl) {
+        this(baseUrl, DEFAULT_CACHE_MAX_SIZE, DEFAULT_CACHE_TTL, DEFAULT_NEGATIVE_CACHE_TTL,
+                DEFAULT_CONNECT_TIMEOUT, DEFAULT_RESPONSE_TIMEOUT,
+                CircuitBreaker.ofDefaults(RESILIENCE_NAME), Bulkhead.ofDefaults(RESILIENCE_NAME));
+    }
+
+    @Autowired
+    public UserServiceClient(@Value("${USER_SERVICE_URL}") final String baseUrl,
+                             @Value("${user.service.cache.max-size:10000}") final long cacheMaxSize,
+                             @Value("${user.service.cache.ttl:5m}") final Duration cacheTtl,
+                             @Value("${user.service.cache.negative-ttl:10s}") final Duration negativeCacheTtl,
+                             @Value("${user.service.connect-timeout:1s}") final Duration connectTimeout,
+                             @Value("${user.service.response-timeout:2s}") final Duration responseTimeout,
+                             final CircuitBreakerRegistry circuitBreakerRegistry,
+                             final BulkheadRegistry bulkheadRegistry) {
+        this(baseUrl, cacheMaxSize, cacheTtl, negativeCacheTtl, connectTimeout, responseTimeout,
+                circuitBreakerRegistry.circuitBreaker(RESILIENCE_NAME),
+                bulkheadRegistry.bulkhead(RESILIENCE_NAME));
+    }
 
-    public UserServiceClient(@Value("${USER_SERVICE_URL}") String baseUrl) {
+    private UserServiceClient(final String baseUrl,
+                              final long cacheMaxSize,
+                              final Duration cacheTtl,
+                              final Duration negativeCacheTtl,
+                              final Duration connectTimeout,
+                              final Duration responseTimeout,
+                              final CircuitBreaker circuitBreaker,
+                              final Bulkhead bulkhead) {
+        final HttpClient httpClient = HttpClient.create()
+                .option(ChannelOption.CONNECT_TIMEOUT_MILLIS, Math.toIntExact(connectTimeout.toMillis()))
+                .responseTimeout(responseTimeout);
         this.client = WebClient.builder()
                 .baseUrl(baseUrl)
+                .clientConnector(new ReactorClientHttpConnector(httpClient))
                 .build();
+        this.userExistence = Caffeine.newBuilder()
+                .maximumSize(cacheMaxSize)
+                .expireAfter(Expiry.<Long, Boolean>creating((userId, exists) ->
+                        exists ? cacheTtl : negativeCacheTtl))
+                .buildAsync();
+        this.circuitBreaker = circuitBreaker;
+        this.bulkhead = bulkhead;
     }
 
     public void validateUserExists(final Long userId) {
-        client.get()
+        await(validateUserExistsAsync(userId));
+    }
+
+    /**
+     * Starts the existence check without blocking; the returned future fails
+     * with {@link UserNotFoundException} or {@link UserServiceUnavailableException}.
+     * The future may be shared with concurrent callers, so it must not be cancelled.
+     */
+    public CompletableFuture<Void> validateUserExistsAsync(final Long userId) {
+        return userExistence.get(userId, (id, executor) -> fetchUserExists(id).toFuture())
+                .thenAccept(exists -> {
+                    if (!exists) {
+                        throw new UserNotFoundException(userId);
+                    }
+                });
+    }
+
+    /**
+     * Waits for a check started by {@link #validateUserExistsAsync(Long)},
+     * rethrowing its failure unwrapped.
+     */
+    public static void await(final CompletableFuture<Void> userCheck) {
+        try {
+            userCheck.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw e;
+        }
+    }
+
+    private Mono<Boolean> fetchUserExists(final Long userId) {
+        return client.get()
                 .uri("/user/{id}", userId)
                 .retrieve()
                 .onStatus(HttpStatusCode::is4xxClientError, resp ->
                         Mono.error(new UserNotFoundException(userId)))
                 .toBodilessEntity()
-                .block();
+                .map(response -> true)
+                .onErrorResume(UserNotFoundException.class, e -> Mono.just(false))
+                .transformDeferred(BulkheadOperator.of(bulkhead))
+                .transformDeferred(CircuitBreakerOperator.of(circuitBreaker))
+                .onErrorMap(e -> new UserServiceUnavailableException(userId, e));
     }
 }
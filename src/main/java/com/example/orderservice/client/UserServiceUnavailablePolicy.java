@@ -0,0 +1,11 @@
+package com.example.orderservice.client;
+
+/**
+ * What order creation does when the user service cannot be reached.
+ */
+public enum UserServiceUnavailablePolicy {
+    /** Reject the order. */
+    FAIL_FAST,
+    /** Accept the order and re-check the user later, cancelling its orders if it does not exist. */
+    ALLOW
+}
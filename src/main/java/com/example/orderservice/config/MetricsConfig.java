@@ -0,0 +1,69 @@
+package com.example.orderservice.config;
+
+import com.example.orderservice.service.item.ItemService;
+import com.example.orderservice.service.order.OrderService;
+import com.example.orderservice.util.InFlightRequests;
+import com.example.orderservice.util.ServiceTimingInterceptor;
+import com.example.orderservice.util.ValidationFailureInterceptor;
+import com.example.orderservice.validators.Validator;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.hibernate.cfg.AvailableSettings;
+import org.springframework.aop.Advisor;
+import org.springframework.aop.support.ComposablePointcut;
+import org.springframework.aop.support.DefaultPointcutAdvisor;
+import org.springframework.aop.support.RootClassFilter;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.config.BeanDefinition;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Role;
+import org.springframework.core.Ordered;
+
+@Configuration
+public class MetricsConfig {
+
+    @Bean
+    public InFlightRequests createOrderInFlight(final MeterRegistry meterRegistry) {
+        return new InFlightRequests("order.create.in-flight", meterRegistry);
+    }
+
+    /**
+     * Times service methods outside the transaction advice, so commit time is
+     * part of the measurement. Registered as infrastructure so the auto-proxy
+     * creator set up for transactions applies it as well. The registry is
+     * resolved lazily because advisors are created before regular beans.
+     */
+    @Bean
+    @Role(BeanDefinition.ROLE_INFRASTRUCTURE)
+    public static Advisor serviceTimingAdvisor(final ObjectProvider<MeterRegistry> meterRegistry) {
+        final DefaultPointcutAdvisor advisor = new DefaultPointcutAdvisor(
+                new ComposablePointcut(new RootClassFilter(OrderService.class))
+                        .union(new RootClassFilter(ItemService.class)),
+                new ServiceTimingInterceptor(meterRegistry::getObject));
+        advisor.setOrder(Ordered.HIGHEST_PRECEDENCE);
+        return advisor;
+    }
+
+    @Bean
+    @Role(BeanDefinition.ROLE_INFRASTRUCTURE)
+    public static Advisor validationFailureAdvisor(final ObjectProvider<MeterRegistry> meterRegistry) {
+        return new DefaultPointcutAdvisor(
+                new ComposablePointcut(new RootClassFilter(Validator.class)),
+                new ValidationFailureInterceptor(meterRegistry::getObject));
+    }
+
+    @Bean
+    public HibernatePropertiesCustomizer statementCountingCustomizer() {
+        return properties -> properties.put(AvailableSettings.STATEMENT_INSPECTOR, new StatementCountingInspector());
+    }
+
+    @Bean
+    public FilterRegistrationBean<StatementCountingFilter> statementCountingFilter(final MeterRegistry meterRegistry) {
+        final FilterRegistrationBean<StatementCountingFilter> registration =
+                new FilterRegistrationBean<>(new StatementCountingFilter(meterRegistry));
+        registration.addUrlPatterns("/order/*", "/item/*");
+        return registration;
+    }
+}
@@ -0,0 +1,58 @@
+package com.example.orderservice.config;
+
+import com.example.orderservice.util.ReadYourWrites;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.Set;
+
+/**
+ * Keeps a user on the primary database for {@code window} after a successful
+ * mutating request, identified by the {@code userHeader} request header.
+ * Mutating requests themselves are always pinned, so reads following a write
+ * within the same request see it.
+ */
+public class ReadYourWritesFilter extends OncePerRequestFilter {
+
+    private static final Set<String> SAFE_METHODS = Set.of("GET", "HEAD", "OPTIONS");
+
+    private final String userHeader;
+    private final Cache<String, Boolean> recentWriters;
+
+    public ReadYourWritesFilter(final String userHeader, final Duration window, final long maxUsers) {
+        this.userHeader = userHeader;
+        this.recentWriters = Caffeine.newBuilder()
+                .expireAfterWrite(window)
+                .maximumSize(maxUsers)
+                .build();
+    }
+
+    @Override
+    protected void doFilterInternal(final HttpServletRequest request,
+                                    final HttpServletResponse response,
+                                    final FilterChain filterChain) throws ServletException, IOException {
+        final String user = request.getHeader(userHeader);
+        final boolean mutating = !SAFE_METHODS.contains(request.getMethod());
+        if (!mutating && (user == null || recentWriters.getIfPresent(user) == null)) {
+            filterChain.doFilter(request, response);
+            return;
+        }
+
+        ReadYourWrites.pinToPrimary();
+        try {
+            filterChain.doFilter(request, response);
+        } finally {
+            ReadYourWrites.release();
+            if (mutating && user != null && response.getStatus() < 400) {
+                recentWriters.put(user, Boolean.TRUE);
+            }
+        }
+    }
+}
@@ -0,0 +1,197 @@
+package com.example.orderservice.config;
+
+import com.example.orderservice.util.ReadYourWrites;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import javax.sql.DataSource;
+import java.io.Closeable;
+import java.io.IOException;
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Routes connections of read-only transactions to a replica and everything
+ * else to the primary. Must sit behind a
+ * {@link org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy},
+ * so the route is chosen at the first statement, once the transaction's
+ * read-only flag is known.
+ * <p>
+ * Replicas are probed for reachability, latency and replication lag. A
+ * replica that failed its last probe or lags more than {@code maxLag} is
+ * skipped; with no usable replica, reads go to the primary. Threads pinned
+ * by {@link ReadYourWrites} always use the primary.
+ */
+@Slf4j
+public class ReplicaRoutingDataSource extends AbstractRoutingDataSource implements Closeable {
+
+    static final String PRIMARY = "primary";
+
+    private static final String LAG_QUERY = "SHOW REPLICA STATUS";
+    private static final String LAG_COLUMN = "Seconds_Behind_Source";
+    private static final double LATENCY_SMOOTHING = 0.3;
+
+    private final List<Replica> replicas = new ArrayList<>();
+    private final ReplicaSelectionStrategy strategy;
+    private final long maxLagSeconds;
+    private final AtomicInteger nextReplica = new AtomicInteger();
+    private final Counter primaryRoutes;
+
+    public ReplicaRoutingDataSource(final DataSource primary,
+                                    final Map<String, ? extends DataSource> replicaDataSources,
+                                    final ReplicaSelectionStrategy strategy,
+                                    final Duration maxLag,
+                                    final MeterRegistry meterRegistry) {
+        this.strategy = strategy;
+        this.maxLagSeconds = maxLag.toSeconds();
+        this.primaryRoutes = routes(PRIMARY, meterRegistry);
+
+        final Map<Object, Object> targets = new HashMap<>();
+        targets.put(PRIMARY, primary);
+        replicaDataSources.forEach((name, dataSource) -> {
+            final Replica replica = new Replica(name, dataSource, routes(name, meterRegistry));
+            Gauge.builder("order.datasource.replica.lag", replica, r -> r.lagSeconds)
+                    .baseUnit("seconds")
+                    .tag("replica", name)
+                    .register(meterRegistry);
+            Gauge.builder("order.datasource.replica.available", replica, r -> r.isUsable(maxLagSeconds) ? 1 : 0)
+                    .tag("replica", name)
+                    .register(meterRegistry);
+            replicas.add(replica);
+            targets.put(name, dataSource);
+        });
+        setTargetDataSources(targets);
+        setDefaultTargetDataSource(primary);
+        setLenientFallback(false);
+    }
+
+    @Override
+    protected Object determineCurrentLookupKey() {
+        if (!TransactionSynchronizationManager.isCurrentTransactionReadOnly() || ReadYourWrites.isPinnedToPrimary()) {
+            primaryRoutes.increment();
+            return PRIMARY;
+        }
+        final Replica replica = selectReplica();
+        if (replica == null) {
+            primaryRoutes.increment();
+            return PRIMARY;
+        }
+        replica.routes.increment();
+        return replica.name;
+    }
+
+    private Replica selectReplica() {
+        if (strategy == ReplicaSelectionStrategy.LEAST_LATENCY) {
+            Replica best = null;
+            for (final Replica replica : replicas) {
+                if (replica.isUsable(maxLagSeconds) && (best == null || replica.latencyNanos < best.latencyNanos)) {
+                    best = replica;
+                }
+            }
+            return best;
+        }
+        final int size = replicas.size();
+        final int start = Math.floorMod(nextReplica.getAndIncrement(), Math.max(size, 1));
+        for (int i = 0; i < size; i++) {
+            final Replica replica = replicas.get((start + i) % size);
+            if (replica.isUsable(maxLagSeconds)) {
+                return replica;
+            }
+        }
+        return null;
+    }
+
+    @Scheduled(fixedDelayString = "${order.datasource.replicas.probe-interval-ms:5000}")
+    public void probeReplicas() {
+        for (final Replica replica : replicas) {
+            final long start = System.nanoTime();
+            try (Connection connection = replica.dataSource.getConnection();
+                 Statement statement = connection.createStatement();
+                 ResultSet status = statement.executeQuery(LAG_QUERY)) {
+                Long lag = 0L;
+                if (status.next()) {
+                    final long seconds = status.getLong(LAG_COLUMN);
+                    lag = status.wasNull() ? null : seconds;
+                }
+                recordProbe(replica.name, System.nanoTime() - start, lag);
+            } catch (SQLException e) {
+                if (replica.healthy) {
+                    log.warn("Replica {} failed its probe, routing its reads elsewhere: {}", replica.name, e.getMessage());
+                }
+                replica.healthy = false;
+            }
+        }
+    }
+
+    /**
+     * Applies a probe result; a {@code null} lag means replication is not running.
+     */
+    void recordProbe(final String name, final long latencyNanos, final Long lagSeconds) {
+        for (final Replica replica : replicas) {
+            if (!replica.name.equals(name)) {
+                continue;
+            }
+            replica.latencyNanos = replica.latencyNanos == 0
+                    ? latencyNanos
+                    : replica.latencyNanos + LATENCY_SMOOTHING * (latencyNanos - replica.latencyNanos);
+            if (lagSeconds == null) {
+                if (replica.healthy) {
+                    log.warn("Replication on replica {} is not running, routing its reads elsewhere", name);
+                }
+                replica.healthy = false;
+            } else {
+                replica.lagSeconds = lagSeconds;
+                replica.healthy = true;
+            }
+        }
+    }
+
+    @Override
+    public void close() throws IOException {
+        for (final Replica replica : replicas) {
+            if (replica.dataSource instanceof Closeable closeable) {
+                closeable.close();
+            }
+        }
+    }
+
+    private static Counter routes(final String target, final MeterRegistry meterRegistry) {
+        return Counter.builder("order.datasource.routes")
+                .tag("target", target)
+                .register(meterRegistry);
+    }
+
+    private static final class Replica {
+
+        private final String name;
+        private final DataSource dataSource;
+        private final Counter routes;
+
+        private volatile boolean healthy;
+        private volatile long lagSeconds;
+        private volatile double latencyNanos;
+
+        private Replica(final String name, final DataSource dataSource, final Counter routes) {
+            this.name = name;
+            this.dataSource = dataSource;
+            this.routes = routes;
+        }
+
+        private boolean isUsable(final long maxLagSeconds) {
+            return healthy && lagSeconds <= maxLagSeconds;
+        }
+    }
+}
@@ -0,0 +1,6 @@
+package com.example.orderservice.config;
+
+public enum ReplicaSelectionStrategy {
+    ROUND_ROBIN,
+    LEAST_LATENCY
+}
@@ -0,0 +1,61 @@
+package com.example.orderservice.config;
+
+import com.example.orderservice.util.StatementCounter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.servlet.HandlerMapping;
+
+import java.io.IOException;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Records how many SQL statements each request issued on the request thread,
+ * per HTTP method and route template.
+ */
+public class StatementCountingFilter extends OncePerRequestFilter {
+
+    public static final String METRIC_NAME = "order.http.db.statements";
+
+    private static final String UNKNOWN_ROUTE = "UNKNOWN";
+
+    private final MeterRegistry meterRegistry;
+    private final Map<String, Map<String, DistributionSummary>> summaries = new ConcurrentHashMap<>();
+
+    public StatementCountingFilter(final MeterRegistry meterRegistry) {
+        this.meterRegistry = meterRegistry;
+    }
+
+    @Override
+    protected void doFilterInternal(final HttpServletRequest request,
+                                    final HttpServletResponse response,
+                                    final FilterChain filterChain) throws ServletException, IOException {
+        StatementCounter.start();
+        try {
+            filterChain.doFilter(request, response);
+        } finally {
+            final int statements = StatementCounter.stop();
+            final Object route = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+            summaryFor(request.getMethod(), route == null ? UNKNOWN_ROUTE : route.toString()).record(statements);
+        }
+    }
+
+    private DistributionSummary summaryFor(final String method, final String route) {
+        final Map<String, DistributionSummary> byRoute =
+                summaries.computeIfAbsent(method, ignored -> new ConcurrentHashMap<>());
+        DistributionSummary summary = byRoute.get(route);
+        if (summary == null) {
+            summary = byRoute.computeIfAbsent(route, ignored -> DistributionSummary.builder(METRIC_NAME)
+                    .baseUnit("statements")
+                    .tag("method", method)
+                    .tag("uri", route)
+                    .register(meterRegistry));
+        }
+        return summary;
+    }
+}
@@ -0,0 +1,13 @@
+package com.example.orderservice.config;
+
+import com.example.orderservice.util.StatementCounter;
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+
+public class StatementCountingInspector implements StatementInspector {
+
+    @Override
+    public String inspect(final String sql) {
+        StatementCounter.increment();
+        return sql;
+    }
+}
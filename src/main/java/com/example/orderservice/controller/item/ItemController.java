@@ -3,9 +3,13 @@ package com.example.orderservice.controller.item;
 import com.example.orderservice.dto.item.ItemCreateDto;
 import com.example.orderservice.dto.item.ItemResponseDto;
 import com.example.orderservice.dto.item.ItemUpdateDto;
+import com.example.orderservice.dto.page.CursorPageDto;
 import com.example.orderservice.service.item.ItemServiceImpl;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.DeleteMapping;
 import org.springframework.web.bind.annotation.GetMapping;
@@ -14,9 +18,14 @@ import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.PutMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.WebRequest;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
+import java.util.Iterator;
 import java.util.List;
+import java.util.stream.Stream;
 
 @RestController
 @RequestMapping("/item")
@@ -24,6 +33,7 @@ import java.util.List;
 public class ItemController {
 
     private final ItemServiceImpl itemServiceImpl;
+    private final ObjectMapper objectMapper;
 
     @PostMapping("/create")
     public ResponseEntity<ItemResponseDto> create(@Valid @RequestBody final ItemCreateDto itemCreateDto) {
@@ -56,9 +66,40 @@ public class ItemController {
     }
 
     @GetMapping("/all")
-    public ResponseEntity<List<ItemResponseDto>> getAllItems() {
+    public ResponseEntity<List<ItemResponseDto>> getAllItems(final WebRequest request) {
+        final String catalogVersion = itemServiceImpl.getCatalogVersion();
+        if (request.checkNotModified(catalogVersion)) {
+            return null;
+        }
         final List<ItemResponseDto> items = itemServiceImpl.getAllItems();
-        return ResponseEntity.ok().body(items);
+        return ResponseEntity.ok().eTag(catalogVersion).body(items);
+    }
+
+    @GetMapping("/page")
+    public ResponseEntity<CursorPageDto<ItemResponseDto>> getItemsPage(
+            @RequestParam(required = false) final Long cursor,
+            @RequestParam(required = false) final Integer size) {
+        final CursorPageDto<ItemResponseDto> page = itemServiceImpl.getItemsPage(cursor, size);
+        return ResponseEntity.ok().body(page);
+    }
+
+    @GetMapping(value = "/stream", produces = MediaType.APPLICATION_NDJSON_VALUE)
+    public ResponseEntity<StreamingResponseBody> streamItems() {
+        final Stream<ItemResponseDto> items = itemServiceImpl.streamItems();
+        final ObjectWriter writer = objectMapper.writer();
+        final StreamingResponseBody body = out -> {
+            try (items) {
+                final Iterator<ItemResponseDto> iterator = items.iterator();
+                while (iterator.hasNext()) {
+                    out.write(writer.writeValueAsBytes(iterator.next()));
+                    out.write('\n');
+                }
+                out.flush();
+            }
+        };
+        return ResponseEntity.ok()
+                .contentType(MediaType.APPLICATION_NDJSON)
+                .body(body);
     }
 
 }
@@ -1,12 +1,19 @@
 package com.example.orderservice.controller.order;
 
+import com.example.orderservice.dto.order.OrderBatchResultDto;
 import com.example.orderservice.dto.order.OrderCreateDto;
 import com.example.orderservice.dto.order.OrderResponseDto;
+import com.example.orderservice.dto.order.OrderTotalDto;
 import com.example.orderservice.dto.order.OrderUpdateDto;
+import com.example.orderservice.dto.page.CursorPageDto;
+import com.example.orderservice.service.idempotency.IdempotencyService;
 import com.example.orderservice.service.order.OrderService;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.validation.annotation.Validated;
 import org.springframework.web.bind.annotation.DeleteMapping;
@@ -15,11 +22,16 @@ import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.PutMapping;
 import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 import java.math.BigDecimal;
+import java.util.Iterator;
 import java.util.List;
+import java.util.stream.Stream;
 
 @RestController
 @RequiredArgsConstructor
@@ -27,14 +39,31 @@ import java.util.List;
 @Validated
 public class OrderController {
 
+    private static final String IDEMPOTENCY_KEY_HEADER = "Idempotency-Key";
+    private static final String CREATE_ORDER_OPERATION = "order-create";
+
     private final OrderService orderService;
+    private final IdempotencyService idempotencyService;
+    private final ObjectMapper objectMapper;
 
     @PostMapping("/create")
-    public ResponseEntity<OrderResponseDto> create(@Valid @RequestBody final OrderCreateDto createDto){
-        final OrderResponseDto createdOrder = orderService.createOrder(createDto);
+    public ResponseEntity<OrderResponseDto> create(
+            @Valid @RequestBody final OrderCreateDto createDto,
+            @RequestHeader(value = IDEMPOTENCY_KEY_HEADER, required = false) final String idempotencyKey){
+        final OrderResponseDto createdOrder = idempotencyKey == null
+                ? orderService.createOrder(createDto)
+                : idempotencyService.execute(CREATE_ORDER_OPERATION, idempotencyKey, createDto,
+                        OrderResponseDto.class, () -> orderService.createOrder(createDto));
         return ResponseEntity.status(HttpStatus.CREATED).body(createdOrder);
     }
 
+    @PostMapping("/batch")
+    public ResponseEntity<List<OrderBatchResultDto>> createBatch(
+            @Valid @RequestBody final List<@Valid OrderCreateDto> createDtos){
+        final List<OrderBatchResultDto> results = orderService.createOrders(createDtos);
+        return ResponseEntity.ok().body(results);
+    }
+
     @PutMapping("/update")
     public ResponseEntity<OrderResponseDto> update(@Valid @RequestBody final OrderUpdateDto updateDto){
         final OrderResponseDto updatedOrder = orderService.updateOrder(updateDto);
@@ -70,11 +99,44 @@ public class OrderController {
         return ResponseEntity.ok().body(orders);
     }
 
+    @GetMapping("/user/{userId}/page")
+    public ResponseEntity<CursorPageDto<OrderResponseDto>> getOrdersPageByUserId(
+            @PathVariable Long userId,
+            @RequestParam(required = false) Long cursor,
+            @RequestParam(required = false) Integer size){
+        final CursorPageDto<OrderResponseDto> page = orderService.getOrdersPageByUserId(userId, cursor, size);
+        return ResponseEntity.ok().body(page);
+    }
+
+    @GetMapping(value = "/user/{userId}/stream", produces = MediaType.APPLICATION_NDJSON_VALUE)
+    public ResponseEntity<StreamingResponseBody> streamOrdersByUserId(@PathVariable Long userId){
+        final Stream<OrderResponseDto> orders = orderService.streamOrdersByUserId(userId);
+        final ObjectWriter writer = objectMapper.writer();
+        final StreamingResponseBody body = out -> {
+            try (orders) {
+                final Iterator<OrderResponseDto> iterator = orders.iterator();
+                while (iterator.hasNext()) {
+                    out.write(writer.writeValueAsBytes(iterator.next()));
+                    out.write('\n');
+                }
+                out.flush();
+            }
+        };
+        return ResponseEntity.ok()
+                .contentType(MediaType.APPLICATION_NDJSON)
+                .body(body);
+    }
+
     @GetMapping("/total/{id}")
     public ResponseEntity<BigDecimal> getOrderTotalByUserId(@PathVariable Long id){
         return ResponseEntity.ok(orderService.getOrderTotalById(id));
     }
 
+    @GetMapping("/totals/{ids}")
+    public ResponseEntity<List<OrderTotalDto>> getOrderTotalsByIds(final @PathVariable List<Long> ids){
+        return ResponseEntity.ok(orderService.getOrderTotalsByIds(ids));
+    }
+
     @GetMapping("/exists/{id}")
     public ResponseEntity<Boolean> isOrderExistsByUserId(@PathVariable Long id){
         return ResponseEntity.ok(orderService.isOrderExistsById(id));
@@ -0,0 +1,22 @@
+package com.example.orderservice.dto.order;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class OrderBatchResultDto {
+
+    private int index;
+
+    private OrderBatchStatus status;
+
+    private OrderResponseDto order;
+
+    private String error;
+
+}
@@ -0,0 +1,6 @@
+package com.example.orderservice.dto.order;
+
+public enum OrderBatchStatus {
+    CREATED,
+    FAILED
+}
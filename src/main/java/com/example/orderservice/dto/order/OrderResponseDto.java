@@ -27,6 +27,8 @@ public class OrderResponseDto {
 
     private BigDecimal orderTotal;
 
+    private Long version;
+
     private List<OrderItemResponseDto> orderItems;
 
 }
@@ -0,0 +1,20 @@
+package com.example.orderservice.dto.order;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class OrderTotalDto {
+
+    private Long id;
+
+    private BigDecimal orderTotal;
+
+}
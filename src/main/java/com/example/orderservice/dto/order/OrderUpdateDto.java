@@ -38,4 +38,7 @@ public class OrderUpdateDto {
     private List<OrderItemCreateDto> itemsToAdd;
 
     private List<OrderItemUpdateDto> itemsToUpdate;
+
+    @Range(min = 0)
+    private Long version;
 }
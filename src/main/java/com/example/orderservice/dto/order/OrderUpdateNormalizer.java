@@ -40,5 +40,28 @@ public class OrderUpdateNormalizer {
 
         return ops;
     }
+
+    /**
+     * Folds {@code later} into {@code earlier} so that applying the result once
+     * has the same effect as applying both maps one after the other.
+     */
+    public static Map<Long, Operation> merge(final Map<Long, Operation> earlier,
+                                             final Map<Long, Operation> later) {
+        final Map<Long, Operation> merged = new HashMap<>(earlier);
+        for (final Map.Entry<Long, Operation> entry : later.entrySet()) {
+            final Operation next = entry.getValue();
+            merged.merge(entry.getKey(), next, (previous, ignored) -> {
+                if (next.getType() != OperationType.ADD) {
+                    return next;
+                }
+                return switch (previous.getType()) {
+                    case ADD -> Operation.add(previous.getQuantity() + next.getQuantity());
+                    case UPDATE -> Operation.update(previous.getQuantity() + next.getQuantity());
+                    case REMOVE -> Operation.update(next.getQuantity());
+                };
+            });
+        }
+        return merged;
+    }
 }
 
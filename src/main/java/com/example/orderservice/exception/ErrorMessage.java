@@ -13,6 +13,8 @@ public enum ErrorMessage {
     DATABASE_ERROR("database_error"),
     DATABASE_CONSTRAINT_VIOLATION("database_constraint_violation"),
     CONCURRENCY_ERROR("concurrency_error"),
+    IDEMPOTENCY_KEY_REUSED("idempotency_key_reused"),
+    REQUEST_IN_PROGRESS("request_in_progress"),
     NETWORK_ERROR("network_error"),
     DOWNSTREAM_SERVICE_ERROR("downstream_service_error"),
     INVALID_REQUEST("invalid_request"),
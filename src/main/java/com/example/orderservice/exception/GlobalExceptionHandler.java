@@ -1,11 +1,15 @@
 package com.example.orderservice.exception;
 
+import com.example.orderservice.exception.idempotency.IdempotencyKeyReusedException;
+import com.example.orderservice.exception.idempotency.IdempotentRequestInProgressException;
 import com.example.orderservice.exception.item.ItemNotFoundException;
 import com.example.orderservice.exception.order.OrderNotFoundException;
+import com.example.orderservice.exception.order.OrderVersionConflictException;
 import com.example.orderservice.exception.response.ErrorResponse;
 import com.example.orderservice.exception.response.ExceptionResponseService;
 import com.example.orderservice.exception.response.ValidationErrorDetails;
 import com.example.orderservice.exception.user.UserNotFoundException;
+import com.example.orderservice.exception.user.UserServiceUnavailableException;
 import com.fasterxml.jackson.core.JsonProcessingException;
 import jakarta.persistence.EntityNotFoundException;
 import jakarta.servlet.ServletException;
@@ -51,6 +55,27 @@ public class GlobalExceptionHandler {
         );
     }
 
+    @ExceptionHandler(OrderVersionConflictException.class)
+    public ResponseEntity<ErrorResponse> handleOrderVersionConflict(OrderVersionConflictException ex, WebRequest request) {
+        return exceptionResponseService.buildErrorResponse(
+                ex, request, HttpStatus.CONFLICT, ErrorMessage.CONCURRENCY_ERROR
+        );
+    }
+
+    @ExceptionHandler(IdempotencyKeyReusedException.class)
+    public ResponseEntity<ErrorResponse> handleIdempotencyKeyReused(IdempotencyKeyReusedException ex, WebRequest request) {
+        return exceptionResponseService.buildErrorResponse(
+                ex, request, HttpStatus.UNPROCESSABLE_ENTITY, ErrorMessage.IDEMPOTENCY_KEY_REUSED
+        );
+    }
+
+    @ExceptionHandler(IdempotentRequestInProgressException.class)
+    public ResponseEntity<ErrorResponse> handleRequestInProgress(IdempotentRequestInProgressException ex, WebRequest request) {
+        return exceptionResponseService.buildErrorResponse(
+                ex, request, HttpStatus.CONFLICT, ErrorMessage.REQUEST_IN_PROGRESS
+        );
+    }
+
     @ExceptionHandler(ValidationException.class)
     public ResponseEntity<ErrorResponse> handleValidationException(
             ValidationException ex, WebRequest request) {
@@ -158,6 +183,13 @@ public class GlobalExceptionHandler {
         }
     }
 
+    @ExceptionHandler(UserServiceUnavailableException.class)
+    public ResponseEntity<ErrorResponse> handleUserServiceUnavailable(UserServiceUnavailableException ex, WebRequest request) {
+        return exceptionResponseService.buildErrorResponse(
+                ex, request, HttpStatus.SERVICE_UNAVAILABLE, ErrorMessage.SERVICE_UNAVAILABLE
+        );
+    }
+
     @ExceptionHandler(WebClientRequestException.class)
     public ResponseEntity<ErrorResponse> handleWebClientRequest(WebClientRequestException ex, WebRequest request) {
         return exceptionResponseService.buildErrorResponse(
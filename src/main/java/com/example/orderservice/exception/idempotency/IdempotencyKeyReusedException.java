@@ -0,0 +1,7 @@
+package com.example.orderservice.exception.idempotency;
+
+public class IdempotencyKeyReusedException extends RuntimeException {
+    public IdempotencyKeyReusedException(final String key) {
+        super("Idempotency key " + key + " was already used with a different request");
+    }
+}
@@ -0,0 +1,7 @@
+package com.example.orderservice.exception.idempotency;
+
+public class IdempotentRequestInProgressException extends RuntimeException {
+    public IdempotentRequestInProgressException(final String key) {
+        super("Request with idempotency key " + key + " is still being processed");
+    }
+}
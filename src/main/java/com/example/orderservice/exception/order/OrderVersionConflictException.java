@@ -0,0 +1,7 @@
+package com.example.orderservice.exception.order;
+
+public class OrderVersionConflictException extends RuntimeException {
+    public OrderVersionConflictException(final Long id, final Long expectedVersion, final Long actualVersion) {
+        super("Order with id " + id + " is at version " + actualVersion + ", expected " + expectedVersion);
+    }
+}
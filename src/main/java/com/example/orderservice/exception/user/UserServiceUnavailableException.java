@@ -0,0 +1,7 @@
+package com.example.orderservice.exception.user;
+
+public class UserServiceUnavailableException extends RuntimeException {
+    public UserServiceUnavailableException(final Long userId, final Throwable cause) {
+        super("User service is unavailable, could not check user with id " + userId, cause);
+    }
+}
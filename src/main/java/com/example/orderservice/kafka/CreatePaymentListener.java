@@ -1,35 +1,95 @@
 package com.example.orderservice.kafka;
 
 import com.example.orderservice.dto.event.PaymentEventDto;
+import com.example.orderservice.dto.event.PaymentStatus;
 import com.example.orderservice.service.order.OrderService;
 import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.kafka.annotation.KafkaListener;
 import org.springframework.stereotype.Service;
 
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Consumes a whole poll of payment events at once. Events are collapsed per
+ * order (the last one in the poll wins) and applied with set-based updates,
+ * instead of loading and saving every order separately.
+ */
+@Slf4j
 @Service
 public class CreatePaymentListener {
 
     private final OrderService orderService;
     private final ObjectMapper objectMapper;
 
+    private final Timer batchTimer;
+    private final DistributionSummary batchSize;
+    private final Counter appliedEvents;
+    private final Counter invalidEvents;
+
     @Autowired
     public CreatePaymentListener(@Qualifier("orderServiceImpl") final OrderService orderService,
-                                 final ObjectMapper objectMapper) {
+                                 final ObjectMapper objectMapper,
+                                 final MeterRegistry meterRegistry) {
         this.orderService = orderService;
         this.objectMapper = objectMapper;
+        this.batchTimer = Timer.builder("order.payment.batch")
+                .description("Time to apply one poll of payment events")
+                .register(meterRegistry);
+        this.batchSize = DistributionSummary.builder("order.payment.batch.size")
+                .baseUnit("events")
+                .register(meterRegistry);
+        this.appliedEvents = Counter.builder("order.payment.events")
+                .tag("result", "applied")
+                .register(meterRegistry);
+        this.invalidEvents = Counter.builder("order.payment.events")
+                .tag("result", "invalid")
+                .register(meterRegistry);
+    }
+
+    @KafkaListener(topics = "create-payment", groupId = "order-service-group", batch = "true")
+    public void handlePaymentEvents(final List<String> paymentEvts) {
+        batchSize.record(paymentEvts.size());
+        batchTimer.record(() -> {
+            final Map<Long, PaymentStatus> statuses = new LinkedHashMap<>();
+            for (final String paymentEvt : paymentEvts) {
+                final PaymentEventDto evt = parse(paymentEvt);
+                if (evt != null) {
+                    statuses.put(evt.orderId(), evt.paymentStatus());
+                }
+            }
+            if (statuses.isEmpty()) {
+                return;
+            }
+
+            final int updated = orderService.updateOrderStatuses(statuses);
+            if (updated < statuses.size()) {
+                log.warn("{} of {} payment events reference unknown orders", statuses.size() - updated, statuses.size());
+            }
+            appliedEvents.increment(updated);
+        });
     }
 
-    @KafkaListener(topics = "create-payment", groupId = "order-service-group")
-    public void handlePaymentEvent(final String paymentEvt) {
-        final PaymentEventDto evt;
+    private PaymentEventDto parse(final String paymentEvt) {
         try {
-            evt = objectMapper.readValue(paymentEvt, PaymentEventDto.class);
+            final PaymentEventDto evt = objectMapper.readValue(paymentEvt, PaymentEventDto.class);
+            if (evt.orderId() != null && evt.paymentStatus() != null) {
+                return evt;
+            }
+            log.warn("Skipping payment event without order id or status: {}", paymentEvt);
         } catch (JsonProcessingException e) {
-            throw new RuntimeException(e);
+            log.warn("Skipping unreadable payment event: {}", paymentEvt, e);
         }
-        orderService.updateOrderStatus(evt.orderId(), evt.paymentStatus());
+        invalidEvents.increment();
+        return null;
     }
 }
@@ -2,26 +2,52 @@ package com.example.orderservice.kafka;
 
 import com.example.orderservice.dto.event.OrderEventDto;
 import com.example.orderservice.model.Order;
+import com.example.orderservice.model.OutboxEvent;
+import com.example.orderservice.repository.outbox.OutboxEventRepository;
 import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.ObjectMapper;
-import org.springframework.kafka.core.KafkaTemplate;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.List;
 
+/**
+ * Writes create-order events to the outbox inside the caller's transaction;
+ * {@link OutboxRelay} delivers them to Kafka once that transaction commits.
+ */
 @Service
 public class OrderEventPublisher {
-    private final KafkaTemplate<Long, String> kafka;
+
+    static final String CREATE_ORDER_TOPIC = "create-order";
+
+    private final OutboxEventRepository outboxEventRepository;
     private final ObjectMapper objectMapper;
 
-    public OrderEventPublisher(final KafkaTemplate<Long, String> kafka,
+    public OrderEventPublisher(final OutboxEventRepository outboxEventRepository,
                                final ObjectMapper objectMapper) {
-        this.kafka = kafka;
+        this.outboxEventRepository = outboxEventRepository;
         this.objectMapper = objectMapper;
     }
 
+    @Transactional(propagation = Propagation.MANDATORY)
     public void publishOrderCreated(final Order order,
                                     final BigDecimal amount) {
+        outboxEventRepository.save(toOutboxEvent(order, amount));
+    }
+
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void publishOrdersCreated(final List<Order> orders) {
+        final List<OutboxEvent> events = orders.stream()
+                .map(order -> toOutboxEvent(order, order.getOrderTotal()))
+                .toList();
+        outboxEventRepository.saveAll(events);
+    }
+
+    private OutboxEvent toOutboxEvent(final Order order,
+                                      final BigDecimal amount) {
         final OrderEventDto evt = OrderEventDto.builder()
                 .userId(order.getUserId())
                 .amount(amount)
@@ -29,10 +55,14 @@ public class OrderEventPublisher {
                 .date(order.getOrderDate())
                 .build();
         try{
-            final String orderCreated = objectMapper.writeValueAsString(evt);
-            kafka.send("create-order", order.getId(), orderCreated);
+            return OutboxEvent.builder()
+                    .topic(CREATE_ORDER_TOPIC)
+                    .aggregateId(order.getId())
+                    .payload(objectMapper.writeValueAsString(evt))
+                    .createdAt(LocalDateTime.now())
+                    .build();
         }catch (JsonProcessingException e){
             throw new RuntimeException(e);
         }
     }
-}
\ No newline at end of file
+}
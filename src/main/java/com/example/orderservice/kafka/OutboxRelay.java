@@ -0,0 +1,152 @@
+package com.example.orderservice.kafka;
+
+import com.example.orderservice.model.OutboxEvent;
+import com.example.orderservice.repository.outbox.OutboxEventRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.kafka.core.KafkaTemplate;
+import org.springframework.kafka.support.SendResult;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Drains the outbox in id order. Rows are locked with SKIP LOCKED so several
+ * instances can relay side by side, and a row is deleted only after the broker
+ * acknowledged it. Once an event of an order fails, later events of that order
+ * stay in the outbox so they are never delivered ahead of it.
+ */
+@Slf4j
+@Component
+public class OutboxRelay {
+
+    private final OutboxEventRepository outboxEventRepository;
+    private final KafkaTemplate<Long, String> kafka;
+    private final TransactionTemplate transactionTemplate;
+
+    private final int batchSize;
+    private final Duration sendTimeout;
+
+    private final AtomicLong pendingEvents = new AtomicLong();
+    private final AtomicLong lagMillis = new AtomicLong();
+    private final Counter publishedEvents;
+    private final Counter failedEvents;
+    private final Timer batchTimer;
+    private final Timer publishLatency;
+    private final Timer deliveryDelay;
+
+    public OutboxRelay(final OutboxEventRepository outboxEventRepository,
+                       final KafkaTemplate<Long, String> kafka,
+                       final TransactionTemplate transactionTemplate,
+                       final MeterRegistry meterRegistry,
+                       @Value("${order.outbox.batch-size:200}") final int batchSize,
+                       @Value("${order.outbox.send-timeout:10s}") final Duration sendTimeout) {
+        this.outboxEventRepository = outboxEventRepository;
+        this.kafka = kafka;
+        this.transactionTemplate = transactionTemplate;
+        this.batchSize = batchSize;
+        this.sendTimeout = sendTimeout;
+
+        Gauge.builder("order.outbox.pending", pendingEvents, AtomicLong::get)
+                .register(meterRegistry);
+        Gauge.builder("order.outbox.lag", lagMillis, lag -> lag.get() / 1000.0)
+                .baseUnit("seconds")
+                .register(meterRegistry);
+        this.publishedEvents = Counter.builder("order.outbox.events")
+                .tag("result", "published")
+                .register(meterRegistry);
+        this.failedEvents = Counter.builder("order.outbox.events")
+                .tag("result", "failed")
+                .register(meterRegistry);
+        this.batchTimer = Timer.builder("order.outbox.batch")
+                .register(meterRegistry);
+        this.publishLatency = Timer.builder("order.kafka.publish")
+                .description("Time from handing an event to the producer until the broker acknowledged it")
+                .register(meterRegistry);
+        this.deliveryDelay = Timer.builder("order.outbox.delivery")
+                .description("Time from writing an event to the outbox until the broker acknowledged it")
+                .register(meterRegistry);
+    }
+
+    @Scheduled(initialDelayString = "${order.outbox.poll-interval-ms:500}",
+            fixedDelayString = "${order.outbox.poll-interval-ms:500}")
+    public void relayPending() {
+        int relayed;
+        do {
+            relayed = Objects.requireNonNullElse(
+                    batchTimer.record(() -> transactionTemplate.execute(status -> relayBatch())), 0);
+        } while (relayed == batchSize);
+        updateLagMetrics();
+    }
+
+    private int relayBatch() {
+        final List<OutboxEvent> events = outboxEventRepository.lockNextBatch(batchSize);
+        if (events.isEmpty()) {
+            return 0;
+        }
+
+        final long sendStarted = System.nanoTime();
+        final List<CompletableFuture<SendResult<Long, String>>> sends = new ArrayList<>(events.size());
+        for (final OutboxEvent event : events) {
+            sends.add(kafka.send(event.getTopic(), event.getAggregateId(), event.getPayload()));
+        }
+        kafka.flush();
+
+        final List<Long> delivered = new ArrayList<>(events.size());
+        final List<LocalDateTime> deliveredCreatedAt = new ArrayList<>(events.size());
+        final Set<Long> failedAggregates = new HashSet<>();
+        for (int i = 0; i < events.size(); i++) {
+            final OutboxEvent event = events.get(i);
+            if (failedAggregates.contains(event.getAggregateId())) {
+                continue;
+            }
+            try {
+                sends.get(i).get(sendTimeout.toMillis(), TimeUnit.MILLISECONDS);
+                publishLatency.record(System.nanoTime() - sendStarted, TimeUnit.NANOSECONDS);
+                delivered.add(event.getId());
+                deliveredCreatedAt.add(event.getCreatedAt());
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                failedAggregates.add(event.getAggregateId());
+            } catch (ExecutionException | TimeoutException e) {
+                log.warn("Outbox event {} for order {} was not delivered", event.getId(), event.getAggregateId(), e);
+                failedAggregates.add(event.getAggregateId());
+            }
+        }
+
+        final LocalDateTime acknowledgedAt = LocalDateTime.now();
+        for (final LocalDateTime createdAt : deliveredCreatedAt) {
+            deliveryDelay.record(ChronoUnit.MILLIS.between(createdAt, acknowledgedAt), TimeUnit.MILLISECONDS);
+        }
+        outboxEventRepository.deleteAllByIdInBatch(delivered);
+        publishedEvents.increment(delivered.size());
+        failedEvents.increment(events.size() - delivered.size());
+
+        return delivered.size() == events.size() ? delivered.size() : 0;
+    }
+
+    private void updateLagMetrics() {
+        pendingEvents.set(outboxEventRepository.count());
+        lagMillis.set(outboxEventRepository.findOldestCreatedAt()
+                .map(oldest -> Duration.between(oldest, LocalDateTime.now()).toMillis())
+                .orElse(0L));
+    }
+}
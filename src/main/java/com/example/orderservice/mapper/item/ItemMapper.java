@@ -19,14 +19,16 @@ public interface ItemMapper {
 
     @Mappings({
         @Mapping(target = "id", ignore = true),
-        @Mapping(target = "orderItems", ignore = true)
+        @Mapping(target = "orderItems", ignore = true),
+        @Mapping(target = "version", ignore = true)
     })
     Item toEntity(final ItemCreateDto createDto);
 
     @BeanMapping(nullValuePropertyMappingStrategy = NullValuePropertyMappingStrategy.IGNORE)
     @Mappings({
             @Mapping(target = "id", ignore = true),
-            @Mapping(target = "orderItems", ignore = true)
+            @Mapping(target = "orderItems", ignore = true),
+            @Mapping(target = "version", ignore = true)
     })
     void updateFromCommon(final ItemCommon source, @MappingTarget final Item target);
 
@@ -29,6 +29,8 @@ public interface OrderMapper {
             @Mapping(target = "id", ignore = true),
             @Mapping(target = "orderItems", ignore = true),
             @Mapping(target = "orderTotal", ignore = true),
+            @Mapping(target = "version", ignore = true),
+            @Mapping(target = "deleted", ignore = true),
             @Mapping(target = "status", qualifiedByName = "mapOrderStatus"),
             @Mapping(target = "orderDate", qualifiedByName = "mapOrderDate")
     })
@@ -42,6 +44,8 @@ public interface OrderMapper {
     @BeanMapping(nullValuePropertyMappingStrategy = NullValuePropertyMappingStrategy.IGNORE)
     @Mapping(target = "orderItems", ignore = true)
     @Mapping(target = "orderTotal", ignore = true)
+    @Mapping(target = "version", ignore = true)
+    @Mapping(target = "deleted", ignore = true)
     void updateFromDto(final OrderUpdateDto orderUpdateDto, @MappingTarget final Order order);
 
     List<OrderItemResponseDto> mapOrderItems(List<OrderItem> items);
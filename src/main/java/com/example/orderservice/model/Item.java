@@ -7,10 +7,14 @@ import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
 import jakarta.persistence.OneToMany;
+import jakarta.persistence.SequenceGenerator;
 import jakarta.persistence.Table;
+import jakarta.persistence.UniqueConstraint;
+import jakarta.persistence.Version;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
+import lombok.EqualsAndHashCode;
 import lombok.NoArgsConstructor;
 import lombok.ToString;
 
@@ -18,16 +22,20 @@ import java.math.BigDecimal;
 import java.util.List;
 
 @Entity
-@Table(name = "items")
+@Table(name = "items", uniqueConstraints = @UniqueConstraint(name = Item.NAME_CONSTRAINT, columnNames = "name"))
 @NoArgsConstructor
 @AllArgsConstructor
 @ToString(exclude = "orderItems")
+@EqualsAndHashCode(exclude = "orderItems")
 @Data
 @Builder
 public class Item {
 
+    public static final String NAME_CONSTRAINT = "uk_item_name";
+
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "items_seq")
+    @SequenceGenerator(name = "items_seq", sequenceName = "items_seq", allocationSize = 50)
     private Long id;
 
     @Column(nullable = false)
@@ -36,6 +44,9 @@ public class Item {
     @Column(nullable = false)
     private BigDecimal price;
 
+    @Version
+    private Long version;
+
     @OneToMany(mappedBy = "item", cascade = CascadeType.ALL, orphanRemoval = true)
     private List<OrderItem> orderItems;
 
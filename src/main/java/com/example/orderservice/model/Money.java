@@ -0,0 +1,51 @@
+package com.example.orderservice.model;
+
+import java.math.BigDecimal;
+
+/**
+ * Amount of money in minor units (cents) for the DECIMAL(10,2) columns.
+ * Arithmetic is exact: any overflow throws {@link ArithmeticException} instead
+ * of wrapping, and {@link #requireStorable()} rejects amounts the columns
+ * cannot hold. Convert from and to {@link BigDecimal} only at the API/DB edge.
+ */
+public record Money(long minorUnits) {
+
+    public static final int SCALE = 2;
+
+    /**
+     * Largest amount a DECIMAL(10,2) column holds, 99,999,999.99.
+     */
+    public static final long MAX_STORABLE_MINOR_UNITS = 9_999_999_999L;
+
+    public static final Money ZERO = new Money(0);
+
+    /**
+     * @throws ArithmeticException if the amount has more than {@link #SCALE}
+     *                             significant fraction digits or does not fit a long
+     */
+    public static Money of(final BigDecimal amount) {
+        return new Money(amount.movePointRight(SCALE).longValueExact());
+    }
+
+    public Money plus(final Money other) {
+        return new Money(Math.addExact(minorUnits, other.minorUnits));
+    }
+
+    public Money times(final long quantity) {
+        return new Money(Math.multiplyExact(minorUnits, quantity));
+    }
+
+    /**
+     * @throws ArithmeticException if the amount does not fit a DECIMAL(10,2) column
+     */
+    public Money requireStorable() {
+        if (Math.abs(minorUnits) > MAX_STORABLE_MINOR_UNITS) {
+            throw new ArithmeticException("Amount " + toBigDecimal() + " exceeds DECIMAL(10,2)");
+        }
+        return this;
+    }
+
+    public BigDecimal toBigDecimal() {
+        return BigDecimal.valueOf(minorUnits, SCALE);
+    }
+}
@@ -1,8 +1,12 @@
 package com.example.orderservice.repository.item;
 
 
+import com.example.orderservice.cache.item.CatalogFingerprint;
+import com.example.orderservice.dto.item.ItemResponseDto;
 import com.example.orderservice.model.Item;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
@@ -19,6 +23,20 @@ public interface ItemRepository extends JpaRepository<Item, Long> {
     @Query("SELECT i.id from Item i where i.id in :ids")
     List<Long> findExistingItemsIds(@Param("ids") Set<Long> ids);
 
-    boolean existsByName(String name);
+    @Query(
+            "SELECT new com.example.orderservice.dto.item.ItemResponseDto(i.id, i.name, i.price) " +
+            "FROM Item i WHERE i.id > :afterId ORDER BY i.id"
+    )
+    List<ItemResponseDto> findItemsAfter(@Param("afterId") final Long afterId, final Limit limit);
+
+    @Query(
+            "SELECT new com.example.orderservice.cache.item.CatalogFingerprint(" +
+            "COUNT(i), COALESCE(MAX(i.id), 0L), COALESCE(SUM(i.version), 0L)) FROM Item i"
+    )
+    CatalogFingerprint fingerprint();
+
+    @Modifying(clearAutomatically = true)
+    @Query("DELETE FROM Item i WHERE i.id = :id")
+    int bulkDeleteById(@Param("id") Long id);
 
 }
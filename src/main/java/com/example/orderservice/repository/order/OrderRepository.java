@@ -1,26 +1,110 @@
 package com.example.orderservice.repository.order;
 
+import com.example.orderservice.dto.order.OrderTotalDto;
 import com.example.orderservice.model.Order;
+import com.example.orderservice.model.OrderStatus;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.math.BigDecimal;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
 @Repository
-public interface OrderRepository extends JpaRepository<Order, Long> {
+public interface OrderRepository extends JpaRepository<Order, Long>, OrderRepositoryCustom {
 
-    @EntityGraph(attributePaths = "orderItems")
+    @EntityGraph(attributePaths = {"orderItems", "orderItems.item"})
     @Query(
             "SELECT o FROM Order o WHERE o.id = :id"
     )
     Optional<Order> findWithOrderItemsById(@Param("id") final Long id);
 
+    @EntityGraph(attributePaths = {"orderItems", "orderItems.item"})
+    @Query(
+            "SELECT o FROM Order o WHERE o.id IN :ids ORDER BY o.id"
+    )
+    List<Order> findAllWithOrderItemsByIdIn(@Param("ids") final Collection<Long> ids);
+
+    @EntityGraph(attributePaths = {"orderItems", "orderItems.item"})
     @Query(
             "SELECT o FROM Order o WHERE o.userId = :userId"
     )
-    List<Order> findOrdersByUserId(Long userId);
+    List<Order> findOrdersByUserId(@Param("userId") final Long userId);
+
+    @Query(
+            "SELECT o.id FROM Order o WHERE o.userId = :userId AND o.id > :afterId ORDER BY o.id"
+    )
+    List<Long> findOrderIdsByUserIdAfter(@Param("userId") final Long userId,
+                                         @Param("afterId") final Long afterId,
+                                         final Limit limit);
+
+    @Query(
+            "SELECT o.id FROM Order o WHERE o.id > :afterId ORDER BY o.id"
+    )
+    List<Long> findIdsAfter(@Param("afterId") final Long afterId, final Limit limit);
+
+    @Query(
+            "SELECT o.orderTotal FROM Order o WHERE o.id = :id"
+    )
+    Optional<BigDecimal> findOrderTotalById(@Param("id") final Long id);
+
+    @Query(
+            "SELECT new com.example.orderservice.dto.order.OrderTotalDto(o.id, o.orderTotal) " +
+            "FROM Order o WHERE o.id IN :ids"
+    )
+    List<OrderTotalDto> findOrderTotalsByIdIn(@Param("ids") final Collection<Long> ids);
+
+    @Modifying(clearAutomatically = true)
+    @Query(
+            "UPDATE Order o SET o.status = :status, o.version = o.version + 1 WHERE o.id IN :ids"
+    )
+    int updateStatusByIdIn(@Param("ids") final Collection<Long> ids,
+                           @Param("status") final OrderStatus status);
+
+    @Modifying(clearAutomatically = true)
+    @Query(
+            value = "UPDATE orders SET deleted = true, version = version + 1 WHERE id = :id AND deleted = false",
+            nativeQuery = true
+    )
+    int markDeleted(@Param("id") final Long id);
+
+    @Query(
+            value = "SELECT id FROM orders WHERE deleted = true ORDER BY id LIMIT :limit",
+            nativeQuery = true
+    )
+    List<Long> findSoftDeletedIds(@Param("limit") final int limit);
+
+    @Modifying(clearAutomatically = true)
+    @Query(
+            value = "DELETE FROM orders WHERE id IN :ids",
+            nativeQuery = true
+    )
+    int bulkDeleteByIdIn(@Param("ids") final Collection<Long> ids);
+
+    @Query(
+            "SELECT DISTINCT oi.order.id FROM OrderItem oi WHERE oi.item.id = :itemId"
+    )
+    List<Long> findOrderIdsByItemId(@Param("itemId") final Long itemId);
+
+    /**
+     * Takes the item's lines out of the totals of every order holding it, at
+     * the item's current price, and bumps those orders' versions. Must run
+     * before the lines themselves are deleted.
+     */
+    @Modifying(clearAutomatically = true)
+    @Query(
+            value = "UPDATE orders o " +
+                    "JOIN (SELECT oi.order_id, SUM(oi.quantity * i.price) AS amount " +
+                    "      FROM order_items oi JOIN items i ON i.id = oi.item_id " +
+                    "      WHERE oi.item_id = :itemId GROUP BY oi.order_id) item_lines ON item_lines.order_id = o.id " +
+                    "SET o.order_total = o.order_total - item_lines.amount, o.version = o.version + 1",
+            nativeQuery = true
+    )
+    int subtractItemFromTotals(@Param("itemId") final Long itemId);
 }
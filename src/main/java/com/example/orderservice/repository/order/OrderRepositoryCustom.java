@@ -0,0 +1,14 @@
+package com.example.orderservice.repository.order;
+
+import com.example.orderservice.model.Order;
+
+public interface OrderRepositoryCustom {
+
+    /**
+     * Schedules a version bump of a managed order at commit, failing with an
+     * optimistic locking exception if the row has moved on since it was read.
+     * No row lock is taken before then. Changes that only touch order lines use
+     * this to keep the order's version check in the write path.
+     */
+    void incrementVersion(Order order);
+}
@@ -0,0 +1,17 @@
+package com.example.orderservice.repository.order;
+
+import com.example.orderservice.model.Order;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.LockModeType;
+import lombok.RequiredArgsConstructor;
+
+@RequiredArgsConstructor
+public class OrderRepositoryCustomImpl implements OrderRepositoryCustom {
+
+    private final EntityManager entityManager;
+
+    @Override
+    public void incrementVersion(final Order order) {
+        entityManager.lock(order, LockModeType.OPTIMISTIC_FORCE_INCREMENT);
+    }
+}
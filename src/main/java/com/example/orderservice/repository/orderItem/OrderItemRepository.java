@@ -0,0 +1,40 @@
+package com.example.orderservice.repository.orderItem;
+
+import com.example.orderservice.model.OrderItem;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.math.BigDecimal;
+import java.util.Collection;
+import java.util.List;
+
+@Repository
+public interface OrderItemRepository extends JpaRepository<OrderItem, Long> {
+
+    @Query(
+            "SELECT oi FROM OrderItem oi WHERE oi.order.id = :orderId AND oi.item.id IN :itemIds"
+    )
+    List<OrderItem> findByOrderIdAndItemIdIn(@Param("orderId") final Long orderId,
+                                             @Param("itemIds") final Collection<Long> itemIds);
+
+    @Query(
+            "SELECT SUM(oi.quantity * i.price) FROM OrderItem oi JOIN oi.item i WHERE oi.order.id = :orderId"
+    )
+    BigDecimal sumLineTotalsByOrderId(@Param("orderId") final Long orderId);
+
+    @Modifying(clearAutomatically = true)
+    @Query(
+            value = "DELETE FROM order_items WHERE order_id IN :orderIds",
+            nativeQuery = true
+    )
+    int bulkDeleteByOrderIdIn(@Param("orderIds") final Collection<Long> orderIds);
+
+    @Modifying(clearAutomatically = true)
+    @Query(
+            "DELETE FROM OrderItem oi WHERE oi.item.id = :itemId"
+    )
+    int bulkDeleteByItemId(@Param("itemId") final Long itemId);
+}
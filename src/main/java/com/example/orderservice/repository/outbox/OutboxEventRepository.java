@@ -0,0 +1,26 @@
+package com.example.orderservice.repository.outbox;
+
+import com.example.orderservice.model.OutboxEvent;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+@Repository
+public interface OutboxEventRepository extends JpaRepository<OutboxEvent, Long> {
+
+    @Query(
+            value = "SELECT * FROM order_outbox ORDER BY id LIMIT :limit FOR UPDATE SKIP LOCKED",
+            nativeQuery = true
+    )
+    List<OutboxEvent> lockNextBatch(@Param("limit") final int limit);
+
+    @Query(
+            "SELECT MIN(e.createdAt) FROM OutboxEvent e"
+    )
+    Optional<LocalDateTime> findOldestCreatedAt();
+}
@@ -0,0 +1,16 @@
+package com.example.orderservice.service.idempotency;
+
+/**
+ * Stored state of an idempotency key: the request fingerprint and, once the
+ * first request finished, its serialized response.
+ */
+public record IdempotencyRecord(String fingerprint, String response) {
+
+    static IdempotencyRecord inProgress(final String fingerprint) {
+        return new IdempotencyRecord(fingerprint, null);
+    }
+
+    boolean isCompleted() {
+        return response != null;
+    }
+}
@@ -0,0 +1,185 @@
+package com.example.orderservice.service.idempotency;
+
+import com.example.orderservice.cache.idempotency.IdempotencyStore;
+import com.example.orderservice.exception.idempotency.IdempotencyKeyReusedException;
+import com.example.orderservice.exception.idempotency.IdempotentRequestInProgressException;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.util.HexFormat;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.function.Supplier;
+
+/**
+ * Runs an operation at most once per idempotency key.
+ * <p>
+ * The first request claims the key with an in-progress marker and stores its
+ * response when it succeeds; later requests with the same key and body get
+ * that stored response back. A duplicate arriving while the first request is
+ * still running waits for it (on the local future if the first request runs
+ * in this instance, by polling the store otherwise) instead of executing
+ * again. Failed requests release the key so a retry executes normally.
+ */
+@Service
+public class IdempotencyService {
+
+    private static final String KEY_PREFIX = "idempotency:";
+    private static final int MAX_KEY_LENGTH = 255;
+
+    private final IdempotencyStore store;
+    private final ObjectMapper objectMapper;
+
+    private final Duration ttl;
+    private final Duration inProgressTtl;
+    private final Duration waitTimeout;
+    private final Duration pollInterval;
+
+    private final Map<String, CompletableFuture<Void>> inFlight = new ConcurrentHashMap<>();
+
+    private final Counter executed;
+    private final Counter replayed;
+    private final Counter reused;
+    private final Counter timedOut;
+
+    public IdempotencyService(final IdempotencyStore store,
+                              final ObjectMapper objectMapper,
+                              final MeterRegistry meterRegistry,
+                              @Value("${order.idempotency.ttl:24h}") final Duration ttl,
+                              @Value("${order.idempotency.in-progress-ttl:30s}") final Duration inProgressTtl,
+                              @Value("${order.idempotency.wait-timeout:10s}") final Duration waitTimeout,
+                              @Value("${order.idempotency.poll-interval:50ms}") final Duration pollInterval) {
+        this.store = store;
+        this.objectMapper = objectMapper;
+        this.ttl = ttl;
+        this.inProgressTtl = inProgressTtl;
+        this.waitTimeout = waitTimeout;
+        this.pollInterval = pollInterval;
+        this.executed = counter(meterRegistry, "executed");
+        this.replayed = counter(meterRegistry, "replayed");
+        this.reused = counter(meterRegistry, "key_reused");
+        this.timedOut = counter(meterRegistry, "timed_out");
+    }
+
+    public <T> T execute(final String operation,
+                         final String idempotencyKey,
+                         final Object request,
+                         final Class<T> responseType,
+                         final Supplier<T> action) {
+        if (idempotencyKey.isBlank() || idempotencyKey.length() > MAX_KEY_LENGTH) {
+            throw new IllegalArgumentException("Idempotency-Key must be 1 to " + MAX_KEY_LENGTH + " characters long");
+        }
+        final String key = KEY_PREFIX + operation + ":" + idempotencyKey;
+        final String fingerprint = fingerprint(request);
+        final long deadline = System.nanoTime() + waitTimeout.toNanos();
+
+        while (true) {
+            final Optional<IdempotencyRecord> existing = store.get(key).map(this::readRecord);
+            if (existing.isPresent()) {
+                final IdempotencyRecord idempotencyRecord = existing.get();
+                if (!idempotencyRecord.fingerprint().equals(fingerprint)) {
+                    reused.increment();
+                    throw new IdempotencyKeyReusedException(idempotencyKey);
+                }
+                if (idempotencyRecord.isCompleted()) {
+                    replayed.increment();
+                    return read(idempotencyRecord.response(), responseType);
+                }
+                awaitFirstRequest(key, idempotencyKey, deadline);
+            } else if (store.putIfAbsent(key, write(IdempotencyRecord.inProgress(fingerprint)), inProgressTtl)) {
+                return executeFirst(key, fingerprint, action);
+            }
+        }
+    }
+
+    private <T> T executeFirst(final String key,
+                               final String fingerprint,
+                               final Supplier<T> action) {
+        final CompletableFuture<Void> done = new CompletableFuture<>();
+        inFlight.put(key, done);
+        try {
+            final T response = action.get();
+            store.put(key, write(new IdempotencyRecord(fingerprint, write(response))), ttl);
+            executed.increment();
+            return response;
+        } catch (RuntimeException e) {
+            store.remove(key);
+            throw e;
+        } finally {
+            inFlight.remove(key, done);
+            done.complete(null);
+        }
+    }
+
+    private void awaitFirstRequest(final String key,
+                                   final String idempotencyKey,
+                                   final long deadline) {
+        final long remainingNanos = deadline - System.nanoTime();
+        if (remainingNanos <= 0) {
+            timedOut.increment();
+            throw new IdempotentRequestInProgressException(idempotencyKey);
+        }
+        final CompletableFuture<Void> local = inFlight.get(key);
+        try {
+            if (local != null) {
+                local.get(remainingNanos, TimeUnit.NANOSECONDS);
+            } else {
+                Thread.sleep(Math.min(pollInterval.toMillis(), TimeUnit.NANOSECONDS.toMillis(remainingNanos) + 1));
+            }
+        } catch (TimeoutException | ExecutionException e) {
+            // the next loop iteration re-reads the store and checks the deadline
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IdempotentRequestInProgressException(idempotencyKey);
+        }
+    }
+
+    private String fingerprint(final Object request) {
+        try {
+            final byte[] digest = MessageDigest.getInstance("SHA-256")
+                    .digest(write(request).getBytes(StandardCharsets.UTF_8));
+            return HexFormat.of().formatHex(digest);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private IdempotencyRecord readRecord(final String json) {
+        return read(json, IdempotencyRecord.class);
+    }
+
+    private <T> T read(final String json, final Class<T> type) {
+        try {
+            return objectMapper.readValue(json, type);
+        } catch (JsonProcessingException e) {
+            throw new RuntimeException(e);
+        }
+    }
+
+    private String write(final Object value) {
+        try {
+            return objectMapper.writeValueAsString(value);
+        } catch (JsonProcessingException e) {
+            throw new RuntimeException(e);
+        }
+    }
+
+    private static Counter counter(final MeterRegistry meterRegistry, final String result) {
+        return Counter.builder("order.idempotency.requests")
+                .tag("result", result)
+                .register(meterRegistry);
+    }
+}
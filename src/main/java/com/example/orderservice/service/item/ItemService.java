@@ -3,8 +3,10 @@ package com.example.orderservice.service.item;
 import com.example.orderservice.dto.item.ItemCreateDto;
 import com.example.orderservice.dto.item.ItemResponseDto;
 import com.example.orderservice.dto.item.ItemUpdateDto;
+import com.example.orderservice.dto.page.CursorPageDto;
 
 import java.util.List;
+import java.util.stream.Stream;
 
 public interface ItemService {
 
@@ -19,4 +21,13 @@ public interface ItemService {
     ItemResponseDto deleteItem(final Long orderId);
 
     List<ItemResponseDto> getAllItems();
+
+    /**
+     * Version of the catalog returned by {@link #getAllItems()}, usable as an entity tag.
+     */
+    String getCatalogVersion();
+
+    CursorPageDto<ItemResponseDto> getItemsPage(final Long cursor, final Integer size);
+
+    Stream<ItemResponseDto> streamItems();
 }
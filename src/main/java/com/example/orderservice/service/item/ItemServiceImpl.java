@@ -1,18 +1,34 @@
 package com.example.orderservice.service.item;
 
+import com.example.orderservice.cache.item.CatalogFingerprint;
+import com.example.orderservice.cache.item.ItemCatalog;
+import com.example.orderservice.cache.order.OrderCache;
+import com.example.orderservice.cache.order.OrderTotalCache;
 import com.example.orderservice.dto.item.ItemCreateDto;
 import com.example.orderservice.dto.item.ItemResponseDto;
 import com.example.orderservice.dto.item.ItemUpdateDto;
+import com.example.orderservice.dto.page.CursorPageDto;
 import com.example.orderservice.exception.item.ItemNotFoundException;
 import com.example.orderservice.mapper.item.ItemMapper;
 import com.example.orderservice.model.Item;
 import com.example.orderservice.repository.item.ItemRepository;
+import com.example.orderservice.repository.order.OrderRepository;
+import com.example.orderservice.repository.orderItem.OrderItemRepository;
+import com.example.orderservice.util.TransactionCallbacks;
 import com.example.orderservice.validators.Item.ItemValidator;
 import lombok.RequiredArgsConstructor;
+import org.hibernate.exception.ConstraintViolationException;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.data.domain.Limit;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.util.List;
+import java.util.Locale;
+import java.util.Objects;
+import java.util.stream.Stream;
 
 @Service
 @RequiredArgsConstructor
@@ -23,6 +39,21 @@ public class ItemServiceImpl implements ItemService {
     private final ItemMapper itemMapper;
     private final ItemValidator itemValidator;
 
+    private final OrderRepository orderRepository;
+    private final OrderItemRepository orderItemRepository;
+    private final OrderCache orderCache;
+    private final OrderTotalCache orderTotalCache;
+    private final ItemCatalog itemCatalog;
+
+    @Value("${order.pagination.default-page-size:20}")
+    private int defaultPageSize;
+
+    @Value("${order.pagination.max-page-size:100}")
+    private int maxPageSize;
+
+    @Value("${order.pagination.stream-chunk-size:500}")
+    private int streamChunkSize;
+
     @Transactional
     @Override
     public ItemResponseDto createItem(final ItemCreateDto createDto) {
@@ -31,6 +62,8 @@ public class ItemServiceImpl implements ItemService {
         final Item newItem = itemMapper.toEntity(createDto);
 
         final Item savedItem = itemRepository.save(newItem);
+        flushCheckingName(savedItem.getName());
+        TransactionCallbacks.afterCommit(() -> itemCatalog.put(savedItem));
 
         return itemMapper.toResponseDto(savedItem);
     }
@@ -45,7 +78,7 @@ public class ItemServiceImpl implements ItemService {
     @Transactional(readOnly = true)
     @Override
     public ItemResponseDto getItemById(final Long orderId) {
-        final Item item = itemValidator.checkItemToExistence(orderId);
+        final Item item = itemValidator.getExistingItem(orderId);
         return itemMapper.toResponseDto(item);
     }
 
@@ -58,6 +91,9 @@ public class ItemServiceImpl implements ItemService {
                 .orElseThrow(() -> new ItemNotFoundException(updateDto.getId()));
 
         itemMapper.updateFromCommon(updateDto, item);
+        flushCheckingName(item.getName());
+        evictOrdersContaining(item.getId());
+        TransactionCallbacks.afterCommit(() -> itemCatalog.put(item));
 
         return itemMapper.toResponseDto(item);
     }
@@ -66,13 +102,93 @@ public class ItemServiceImpl implements ItemService {
     @Override
     public ItemResponseDto deleteItem(final Long orderId) {
         final Item item = itemValidator.checkItemToExistence(orderId);
-        itemRepository.delete(item);
+        evictOrdersContaining(item.getId());
+        orderRepository.subtractItemFromTotals(item.getId());
+        orderItemRepository.bulkDeleteByItemId(item.getId());
+        itemRepository.bulkDeleteById(item.getId());
+        TransactionCallbacks.afterCommit(() -> itemCatalog.remove(item.getId()));
         return itemMapper.toResponseDto(item);
     }
 
     @Override
     public List<ItemResponseDto> getAllItems() {
-        final List<Item> items = itemRepository.findAll();
-        return itemMapper.toResponseDtoList(items);
+        return itemMapper.toResponseDtoList(itemCatalog.findAll());
+    }
+
+    @Override
+    public String getCatalogVersion() {
+        final CatalogFingerprint fingerprint = itemCatalog.fingerprint();
+        return fingerprint.count() + "-" + fingerprint.maxId() + "-" + fingerprint.versionSum();
+    }
+
+    @Override
+    public CursorPageDto<ItemResponseDto> getItemsPage(final Long cursor, final Integer size) {
+        if (size != null && size <= 0) {
+            throw new IllegalArgumentException("Page size must be positive");
+        }
+        final int pageSize = size == null ? defaultPageSize : Math.min(size, maxPageSize);
+        return loadItemPage(Objects.requireNonNullElse(cursor, 0L), pageSize);
+    }
+
+    @Override
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public Stream<ItemResponseDto> streamItems() {
+        return Stream.iterate(
+                        loadItemPage(0L, streamChunkSize),
+                        Objects::nonNull,
+                        page -> page.isHasNext()
+                                ? loadItemPage(page.getNextCursor(), streamChunkSize)
+                                : null)
+                .flatMap(page -> page.getContent().stream());
+    }
+
+    private CursorPageDto<ItemResponseDto> loadItemPage(final Long cursor, final int pageSize) {
+        final List<ItemResponseDto> items = itemRepository.findItemsAfter(cursor, Limit.of(pageSize + 1));
+        final boolean hasNext = items.size() > pageSize;
+        final List<ItemResponseDto> content = hasNext ? items.subList(0, pageSize) : items;
+
+        return CursorPageDto.<ItemResponseDto>builder()
+                .content(content)
+                .nextCursor(hasNext ? content.getLast().getId() : null)
+                .hasNext(hasNext)
+                .build();
+    }
+
+    /**
+     * Flushes now so a name taken concurrently surfaces here as the same
+     * validation error the catalog check raises, not as a failed commit. Any
+     * other integrity violation is left to the global handler.
+     */
+    private void flushCheckingName(final String itemName) {
+        try {
+            itemRepository.flush();
+        } catch (DataIntegrityViolationException e) {
+            if (violatesNameConstraint(e)) {
+                throw ItemValidator.nameTaken(itemName);
+            }
+            throw e;
+        }
+    }
+
+    private static boolean violatesNameConstraint(final DataIntegrityViolationException e) {
+        for (Throwable cause = e; cause != null; cause = cause.getCause()) {
+            if (cause instanceof ConstraintViolationException violation) {
+                // MySQL reports the key qualified by its table, e.g. "items.uk_item_name"
+                final String constraintName = violation.getConstraintName();
+                return constraintName != null
+                        && constraintName.toLowerCase(Locale.ROOT).endsWith(Item.NAME_CONSTRAINT);
+            }
+        }
+        return false;
+    }
+
+    private void evictOrdersContaining(final Long itemId) {
+        final List<Long> orderIds = orderRepository.findOrderIdsByItemId(itemId);
+        final Runnable evict = () -> orderIds.forEach(orderId -> {
+            orderCache.evict(orderId);
+            orderTotalCache.evict(orderId);
+        });
+        evict.run();
+        TransactionCallbacks.afterCommit(evict);
     }
 }
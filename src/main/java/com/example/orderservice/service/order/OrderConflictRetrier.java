@@ -0,0 +1,86 @@
+package com.example.orderservice.service.order;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.function.Supplier;
+
+/**
+ * Runs an order modification in its own transaction and replays it on a fresh
+ * copy of the order when the version check fails. When the caller already has
+ * a transaction open the work joins it and runs once, since a persistence
+ * context that saw the conflict cannot be reused.
+ */
+@Slf4j
+@Component
+public class OrderConflictRetrier {
+
+    private final TransactionTemplate transactionTemplate;
+
+    private final int maxAttempts;
+    private final Duration backoff;
+
+    private final Counter conflicts;
+    private final Counter exhausted;
+    private final DistributionSummary attempts;
+
+    public OrderConflictRetrier(final TransactionTemplate transactionTemplate,
+                                final MeterRegistry meterRegistry,
+                                @Value("${order.update.max-attempts:3}") final int maxAttempts,
+                                @Value("${order.update.retry-backoff:20ms}") final Duration backoff) {
+        this.transactionTemplate = transactionTemplate;
+        this.maxAttempts = maxAttempts;
+        this.backoff = backoff;
+        this.conflicts = Counter.builder("order.update.conflicts")
+                .register(meterRegistry);
+        this.exhausted = Counter.builder("order.update.conflicts.exhausted")
+                .register(meterRegistry);
+        this.attempts = DistributionSummary.builder("order.update.attempts")
+                .register(meterRegistry);
+    }
+
+    public <T> T execute(final Long orderId, final Supplier<T> work) {
+        if (TransactionSynchronizationManager.isActualTransactionActive()) {
+            return work.get();
+        }
+        for (int attempt = 1; ; attempt++) {
+            try {
+                final T result = transactionTemplate.execute(status -> work.get());
+                attempts.record(attempt);
+                return result;
+            } catch (OptimisticLockingFailureException e) {
+                conflicts.increment();
+                if (attempt >= maxAttempts) {
+                    exhausted.increment();
+                    attempts.record(attempt);
+                    log.warn("Order {} still conflicting after {} attempts", orderId, attempt);
+                    throw e;
+                }
+                log.debug("Order {} changed concurrently, retrying (attempt {})", orderId, attempt);
+                pause(attempt);
+            }
+        }
+    }
+
+    private void pause(final int attempt) {
+        final long maxMillis = backoff.toMillis() * attempt;
+        if (maxMillis <= 0) {
+            return;
+        }
+        try {
+            Thread.sleep(ThreadLocalRandom.current().nextLong(maxMillis / 2, maxMillis + 1));
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while retrying order update", e);
+        }
+    }
+}
@@ -0,0 +1,6 @@
+package com.example.orderservice.service.order;
+
+public enum OrderDeleteMode {
+    HARD,
+    SOFT
+}
@@ -0,0 +1,66 @@
+package com.example.orderservice.service.order;
+
+import com.example.orderservice.repository.order.OrderRepository;
+import com.example.orderservice.repository.orderItem.OrderItemRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * Physically removes soft-deleted orders and their lines. Each batch is its
+ * own transaction, so purging a large backlog never holds locks on more than
+ * one batch of orders at a time.
+ */
+@Slf4j
+@Service
+public class OrderPurgeService {
+
+    private final OrderRepository orderRepository;
+    private final OrderItemRepository orderItemRepository;
+    private final TransactionTemplate transactionTemplate;
+
+    private final int batchSize;
+
+    private final Counter purgedOrders;
+
+    public OrderPurgeService(final OrderRepository orderRepository,
+                             final OrderItemRepository orderItemRepository,
+                             final TransactionTemplate transactionTemplate,
+                             final MeterRegistry meterRegistry,
+                             @Value("${order.delete.purge-batch-size:500}") final int batchSize) {
+        this.orderRepository = orderRepository;
+        this.orderItemRepository = orderItemRepository;
+        this.transactionTemplate = transactionTemplate;
+        this.batchSize = batchSize;
+        this.purgedOrders = Counter.builder("order.delete.purged")
+                .register(meterRegistry);
+    }
+
+    @Scheduled(initialDelayString = "${order.delete.purge-interval-ms:60000}",
+            fixedDelayString = "${order.delete.purge-interval-ms:60000}")
+    public void purgeDeletedOrders() {
+        int purged;
+        do {
+            purged = Objects.requireNonNull(transactionTemplate.execute(status -> purgeBatch()));
+            purgedOrders.increment(purged);
+        } while (purged == batchSize);
+    }
+
+    private int purgeBatch() {
+        final List<Long> orderIds = orderRepository.findSoftDeletedIds(batchSize);
+        if (orderIds.isEmpty()) {
+            return 0;
+        }
+        final int lines = orderItemRepository.bulkDeleteByOrderIdIn(orderIds);
+        orderRepository.bulkDeleteByIdIn(orderIds);
+        log.debug("Purged {} soft-deleted orders with {} lines", orderIds.size(), lines);
+        return orderIds.size();
+    }
+}
@@ -1,17 +1,24 @@
 package com.example.orderservice.service.order;
 
 import com.example.orderservice.dto.event.PaymentStatus;
+import com.example.orderservice.dto.order.OrderBatchResultDto;
 import com.example.orderservice.dto.order.OrderCreateDto;
 import com.example.orderservice.dto.order.OrderResponseDto;
+import com.example.orderservice.dto.order.OrderTotalDto;
 import com.example.orderservice.dto.order.OrderUpdateDto;
+import com.example.orderservice.dto.page.CursorPageDto;
 
 import java.math.BigDecimal;
 import java.util.List;
+import java.util.Map;
+import java.util.stream.Stream;
 
 public interface OrderService {
 
     OrderResponseDto createOrder(final OrderCreateDto orderCreateDto);
 
+    List<OrderBatchResultDto> createOrders(final List<OrderCreateDto> orderCreateDtos);
+
     List<OrderResponseDto> getAllOrdersByIds(List<Long> orderIds);
 
     OrderResponseDto getOrderById(final Long orderId);
@@ -22,9 +29,17 @@ public interface OrderService {
 
     BigDecimal getOrderTotalById(final Long orderId);
 
+    List<OrderTotalDto> getOrderTotalsByIds(final List<Long> orderIds);
+
     void updateOrderStatus(Long orderId, PaymentStatus paymentStatus);
 
+    int updateOrderStatuses(Map<Long, PaymentStatus> paymentStatuses);
+
     List<OrderResponseDto> getAllOrdersByUserId(Long userId);
 
+    CursorPageDto<OrderResponseDto> getOrdersPageByUserId(Long userId, Long cursor, Integer size);
+
+    Stream<OrderResponseDto> streamOrdersByUserId(Long userId);
+
     boolean isOrderExistsById(Long orderId);
 }
@@ -1,33 +1,60 @@
 package com.example.orderservice.service.order;
 
+import com.example.orderservice.cache.item.ItemCatalog;
+import com.example.orderservice.cache.order.OrderCache;
+import com.example.orderservice.cache.order.OrderIdFilter;
+import com.example.orderservice.cache.order.OrderTotalCache;
 import com.example.orderservice.dto.event.PaymentStatus;
 import com.example.orderservice.dto.order.Operation;
 import com.example.orderservice.dto.order.OperationType;
+import com.example.orderservice.dto.order.OrderBatchResultDto;
+import com.example.orderservice.dto.order.OrderBatchStatus;
 import com.example.orderservice.dto.order.OrderCreateDto;
 import com.example.orderservice.dto.order.OrderResponseDto;
+import com.example.orderservice.dto.order.OrderTotalDto;
 import com.example.orderservice.dto.order.OrderUpdateDto;
 import com.example.orderservice.dto.order.OrderUpdateNormalizer;
+import com.example.orderservice.dto.page.CursorPageDto;
+import com.example.orderservice.exception.item.ItemNotFoundException;
 import com.example.orderservice.exception.order.OrderNotFoundException;
+import com.example.orderservice.exception.order.OrderVersionConflictException;
 import com.example.orderservice.kafka.OrderEventPublisher;
 import com.example.orderservice.mapper.order.OrderMapper;
 import com.example.orderservice.mapper.orderItem.OrderItemMapper;
 import com.example.orderservice.model.Item;
+import com.example.orderservice.model.Money;
 import com.example.orderservice.model.Order;
 import com.example.orderservice.model.OrderItem;
 import com.example.orderservice.model.OrderStatus;
 import com.example.orderservice.repository.item.ItemRepository;
 import com.example.orderservice.repository.order.OrderRepository;
+import com.example.orderservice.repository.orderItem.OrderItemRepository;
+import com.example.orderservice.util.InFlightRequests;
+import com.example.orderservice.util.ReadYourWrites;
+import com.example.orderservice.util.TransactionCallbacks;
+import com.example.orderservice.validators.order.OrderBatchValidation;
 import com.example.orderservice.validators.order.OrderValidator;
+import jakarta.validation.ValidationException;
 import lombok.RequiredArgsConstructor;
+import org.hibernate.Hibernate;
 import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Limit;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.EnumMap;
+import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
-import java.util.function.Function;
+import java.util.Objects;
+import java.util.Set;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 @Service
 @RequiredArgsConstructor
@@ -37,6 +64,7 @@ public class OrderServiceImpl implements OrderService {
 
     private final OrderRepository orderRepository;
     private final ItemRepository itemRepository;
+    private final OrderItemRepository orderItemRepository;
 
     private final OrderEventPublisher orderEventPublisher;
 
@@ -45,41 +73,101 @@ public class OrderServiceImpl implements OrderService {
 
     private final OrderValidator orderValidator;
 
+    private final OrderCache orderCache;
+    private final OrderTotalCache orderTotalCache;
+    private final OrderIdFilter orderIdFilter;
+    private final ItemCatalog itemCatalog;
+
+    private final InFlightRequests createOrderInFlight;
+
+    private final OrderConflictRetrier orderConflictRetrier;
+    private final OrderUpdateCoalescer orderUpdateCoalescer;
+
+    @Value("${order.pagination.default-page-size:20}")
+    private int defaultPageSize;
+
+    @Value("${order.pagination.max-page-size:100}")
+    private int maxPageSize;
+
+    @Value("${order.pagination.stream-chunk-size:500}")
+    private int streamChunkSize;
+
+    @Value("${order.batch.max-size:500}")
+    private int maxBatchSize;
+
+    @Value("${order.delete.mode:HARD}")
+    private OrderDeleteMode deleteMode;
+
     @Transactional
     @Override
     public OrderResponseDto createOrder(final OrderCreateDto orderCreateDto) {
-        orderValidator.validateCreateDto(orderCreateDto);
+        return createOrderInFlight.track(() -> doCreateOrder(orderCreateDto));
+    }
 
-        final Order createOrder = orderMapper.toEntity(orderCreateDto);
+    private OrderResponseDto doCreateOrder(final OrderCreateDto orderCreateDto) {
+        final Map<Long, Item> itemById = orderValidator.validateAndLoadCreateDto(orderCreateDto);
 
-        final List<OrderItem> orderItems = orderItemMapper.toEntityList(orderCreateDto.getOrderItems());
+        final Order createOrder = buildOrder(orderCreateDto, itemById);
 
-        final List<Long> itemIds = orderItems.stream()
-                .map(oi -> oi.getItem().getId())
-                .distinct()
-                .toList();
-        final List<Item> items = itemRepository.findExistingItems(itemIds);
+        final Order saved = orderRepository.save(createOrder);
+        orderIdFilter.add(saved.getId());
 
-        final Map<Long, Item> itemById = items.stream()
-                .collect(Collectors.toMap(Item::getId, Function.identity()));
+        orderEventPublisher.publishOrderCreated(saved, saved.getOrderTotal());
+        return orderMapper.toResponseDto(saved);
+    }
 
-        BigDecimal totalPrice = BigDecimal.ZERO;
-        for (final OrderItem oi : orderItems) {
-            oi.setOrder(createOrder);
+    @Transactional
+    @Override
+    public List<OrderBatchResultDto> createOrders(final List<OrderCreateDto> orderCreateDtos) {
+        if (orderCreateDtos.isEmpty() || orderCreateDtos.size() > maxBatchSize) {
+            throw new ValidationException("Batch must contain between 1 and " + maxBatchSize + " orders");
+        }
+        final OrderBatchValidation validation = orderValidator.validateCreateDtos(orderCreateDtos);
+
+        final OrderBatchResultDto[] results = new OrderBatchResultDto[orderCreateDtos.size()];
+        final List<Integer> acceptedIndexes = new ArrayList<>();
+        final List<Order> accepted = new ArrayList<>();
+        for (int i = 0; i < orderCreateDtos.size(); i++) {
+            final String failure = validation.failures().get(i);
+            if (failure != null) {
+                results[i] = OrderBatchResultDto.builder()
+                        .index(i)
+                        .status(OrderBatchStatus.FAILED)
+                        .error(failure)
+                        .build();
+            } else {
+                accepted.add(buildOrder(orderCreateDtos.get(i), validation.itemsById()));
+                acceptedIndexes.add(i);
+            }
+        }
+
+        final List<Order> saved = orderRepository.saveAll(accepted);
+        saved.forEach(order -> orderIdFilter.add(order.getId()));
+        orderEventPublisher.publishOrdersCreated(saved);
 
-            final Item orderedItem = itemById.get(oi.getItem().getId());
-            totalPrice = totalPrice.add(
-                    orderedItem.getPrice().multiply(BigDecimal.valueOf(oi.getQuantity()))
-            );
-            oi.setItem(orderedItem);
+        for (int i = 0; i < saved.size(); i++) {
+            final int index = acceptedIndexes.get(i);
+            results[index] = OrderBatchResultDto.builder()
+                    .index(index)
+                    .status(OrderBatchStatus.CREATED)
+                    .order(orderMapper.toResponseDto(saved.get(i)))
+                    .build();
         }
-        createOrder.setOrderTotal(totalPrice);
-        createOrder.getOrderItems().addAll(orderItems);
+        return Arrays.asList(results);
+    }
 
-        final Order saved = orderRepository.save(createOrder);
+    private Order buildOrder(final OrderCreateDto orderCreateDto, final Map<Long, Item> itemById) {
+        final Order createOrder = orderMapper.toEntity(orderCreateDto);
 
-        orderEventPublisher.publishOrderCreated(saved,totalPrice);
-        return orderMapper.toResponseDto(saved);
+        final List<OrderItem> orderItems = orderItemMapper.toEntityList(orderCreateDto.getOrderItems());
+
+        for (final OrderItem oi : orderItems) {
+            oi.setOrder(createOrder);
+            oi.setItem(itemById.get(oi.getItem().getId()));
+        }
+        createOrder.setOrderTotal(OrderTotalCalculator.calculate(orderItems, itemCatalog::unitPriceOf).toBigDecimal());
+        createOrder.getOrderItems().addAll(orderItems);
+        return createOrder;
     }
 
 
@@ -93,70 +181,129 @@ public class OrderServiceImpl implements OrderService {
     @Transactional(readOnly = true)
     @Override
     public OrderResponseDto getOrderById(final Long id) {
-        final Order order = orderValidator.checkOrderToExistence(id);
-        return orderMapper.toResponseDto(order);
+        return orderCache.get(id).orElseGet(() -> {
+            final long readStamp = orderCache.readStamp(id);
+            final Order order = ReadYourWrites.onPrimary(() -> orderValidator.checkOrderWithItemsToExistence(id));
+            final OrderResponseDto response = orderMapper.toResponseDto(order);
+            orderCache.put(response, readStamp);
+            return response;
+        });
     }
 
     @Override
-    @Transactional
+    @Transactional(propagation = Propagation.SUPPORTS)
     public OrderResponseDto updateOrder(final OrderUpdateDto orderUpdateDto) {
         orderValidator.validateUpdateDto(orderUpdateDto);
 
+        final Map<Long, Operation> ops = OrderUpdateNormalizer.normalize(orderUpdateDto);
+
+        return orderUpdateCoalescer.submit(orderUpdateDto, ops, (dto, merged) ->
+                orderConflictRetrier.execute(dto.getId(), () -> applyUpdate(dto, merged)));
+    }
+
+    private OrderResponseDto applyUpdate(final OrderUpdateDto orderUpdateDto, final Map<Long, Operation> ops) {
         final Order order = orderRepository.findById(orderUpdateDto.getId())
                 .orElseThrow(() -> new OrderNotFoundException(orderUpdateDto.getId()));
 
-        orderMapper.updateFromDto(orderUpdateDto, order);
+        final Long expectedVersion = orderUpdateDto.getVersion();
+        if (expectedVersion != null && !expectedVersion.equals(order.getVersion())) {
+            throw new OrderVersionConflictException(order.getId(), expectedVersion, order.getVersion());
+        }
 
-        final Map<Long, Operation> ops = OrderUpdateNormalizer.normalize(orderUpdateDto);
+        orderMapper.updateFromDto(orderUpdateDto, order);
 
-        final List<OrderItem> items = order.getOrderItems();
+        if (!ops.isEmpty()) {
+            // Lines are written apart from the order row, so a change that leaves
+            // the total as it was would otherwise commit without a version check.
+            orderRepository.incrementVersion(order);
+            applyLineChanges(order, ops);
+            order.setOrderTotal(currentTotalOf(order.getId()));
+        }
+        orderRepository.saveAndFlush(order);
+        evictCachedOrder(order.getId());
+
+        final Order updated = Hibernate.isInitialized(order.getOrderItems())
+                ? order
+                : orderRepository.findWithOrderItemsById(order.getId())
+                        .orElseThrow(() -> new OrderNotFoundException(order.getId()));
+        final OrderResponseDto response = orderMapper.toResponseDto(updated);
+        if (!ops.isEmpty() && order.getVersion() != null) {
+            // The forced increment lands at commit, after this response is built
+            response.setVersion(order.getVersion() + 1);
+        }
+        return response;
+    }
 
-        final Map<Long, OrderItem> existing = items.stream()
+    /**
+     * Applies {@code ops} to the affected lines only; the rest of the order is
+     * not loaded.
+     */
+    private void applyLineChanges(final Order order, final Map<Long, Operation> ops) {
+        final Map<Long, OrderItem> existing = orderItemRepository
+                .findByOrderIdAndItemIdIn(order.getId(), ops.keySet()).stream()
                 .collect(Collectors.toMap(oi -> oi.getItem().getId(), oi -> oi));
-
-        for (final Map.Entry<Long, Operation> entry : ops.entrySet()) {
-            final Long itemId = entry.getKey();
-            final Operation op = entry.getValue();
-            final OperationType type = op.getType();
-            switch (type) {
-                case REMOVE -> {
-                    items.removeIf((final OrderItem oi) -> oi.getItem().getId().equals(itemId));
+        final Map<Long, Item> itemById = itemCatalog.findItems(ops.keySet());
+
+        final List<OrderItem> removed = new ArrayList<>();
+        final List<OrderItem> added = new ArrayList<>();
+        try {
+            for (final Map.Entry<Long, Operation> entry : ops.entrySet()) {
+                final Long itemId = entry.getKey();
+                final Operation op = entry.getValue();
+                final OrderItem line = existing.get(itemId);
+                if (line == null && op.getType() == OperationType.REMOVE) {
+                    continue;
+                }
+                final long oldQuantity = line == null ? 0 : line.getQuantity();
+                final long newQuantity = switch (op.getType()) {
+                    case REMOVE -> 0;
+                    case UPDATE -> op.getQuantity();
+                    case ADD -> Math.addExact(oldQuantity, op.getQuantity());
+                };
+                if (!itemById.containsKey(itemId)) {
+                    throw new ItemNotFoundException("Item with id " + itemId + " does not exist");
                 }
-                case UPDATE, ADD -> {
-                    handleModifying(existing, itemId, type, op, order, items);
+
+                if (op.getType() == OperationType.REMOVE) {
+                    removed.add(line);
+                } else if (line != null) {
+                    line.setQuantity(newQuantity);
+                } else {
+                    added.add(OrderItem.builder()
+                            .order(order)
+                            .item(itemRepository.getReferenceById(itemId))
+                            .quantity(newQuantity)
+                            .build());
                 }
             }
+        } catch (ArithmeticException e) {
+            throw new ValidationException("Item quantity is out of the supported range");
         }
-        final BigDecimal updatedTotal = calculateNewTotal(order.getOrderItems());
-        if(!updatedTotal.equals(order.getOrderTotal())) {
-            order.setOrderTotal(updatedTotal);
+
+        orderItemRepository.deleteAll(removed);
+        orderItemRepository.saveAll(added);
+
+        final List<OrderItem> lines = order.getOrderItems();
+        if (Hibernate.isInitialized(lines)) {
+            final Set<Long> removedItemIds = removed.stream()
+                    .map(oi -> oi.getItem().getId())
+                    .collect(Collectors.toSet());
+            lines.removeIf(oi -> removedItemIds.contains(oi.getItem().getId()));
+            lines.addAll(added);
         }
-        orderRepository.saveAndFlush(order);
-        return orderMapper.toResponseDto(order);
-    }
-
-    private void handleModifying(final Map<Long, OrderItem> existing,
-                                 final long itemId,
-                                 final OperationType operationType,
-                                 final Operation op,
-                                 final Order order,
-                                 final List<OrderItem> items) {
-        final OrderItem oi = existing.get(itemId);
-        if (oi != null) {
-            long updatedQuantity = op.getQuantity();
-            if(operationType == OperationType.ADD){
-                updatedQuantity += oi.getQuantity();
-            }
-            oi.setQuantity(updatedQuantity);
-        } else {
-            final Item item = itemRepository.getReferenceById(itemId);
-            final OrderItem newItem = OrderItem.builder()
-                    .order(order)
-                    .item(item)
-                    .quantity(op.getQuantity())
-                    .build();
-            items.add(newItem);
-            existing.put(itemId, newItem);
+    }
+
+    /**
+     * Sums the order's lines at current item prices in the database, so the
+     * total matches a full recompute and heals lines removed elsewhere, without
+     * loading the lines. The query flushes the pending line changes first.
+     */
+    private BigDecimal currentTotalOf(final Long orderId) {
+        final BigDecimal total = orderItemRepository.sumLineTotalsByOrderId(orderId);
+        try {
+            return Money.of(total == null ? BigDecimal.ZERO : total).requireStorable().toBigDecimal();
+        } catch (ArithmeticException e) {
+            throw new ValidationException("Order total is out of the supported range");
         }
     }
 
@@ -169,26 +316,89 @@ public class OrderServiceImpl implements OrderService {
 
         final OrderResponseDto response = orderMapper.toResponseDto(order);
 
-        orderRepository.delete(order);
+        if (deleteMode == OrderDeleteMode.SOFT) {
+            orderRepository.markDeleted(orderId);
+        } else {
+            final List<Long> orderIds = List.of(orderId);
+            orderItemRepository.bulkDeleteByOrderIdIn(orderIds);
+            orderRepository.bulkDeleteByIdIn(orderIds);
+        }
+        evictCachedOrder(orderId);
+        TransactionCallbacks.afterCommit(() -> orderIdFilter.remove(orderId));
 
         return response;
     }
 
     @Override
     public BigDecimal getOrderTotalById(final Long orderId) {
-        final Order order = orderValidator.checkOrderToExistence(orderId);
-        return order.getOrderTotal();
+        if (!orderIdFilter.mightContain(orderId)) {
+            throw new OrderNotFoundException(orderId);
+        }
+        return orderTotalCache.get(orderId).orElseGet(() -> {
+            final long readStamp = orderTotalCache.readStamp(orderId);
+            final BigDecimal total = ReadYourWrites.onPrimary(() -> orderRepository.findOrderTotalById(orderId))
+                    .orElseThrow(() -> new OrderNotFoundException(orderId));
+            orderTotalCache.put(orderId, total, readStamp);
+            return total;
+        });
+    }
+
+    @Override
+    public List<OrderTotalDto> getOrderTotalsByIds(final List<Long> orderIds) {
+        final List<Long> distinctIds = orderIds.stream().distinct().toList();
+        if (distinctIds.isEmpty() || distinctIds.size() > maxBatchSize) {
+            throw new ValidationException("Batch must contain between 1 and " + maxBatchSize + " orders");
+        }
+        final Map<Long, BigDecimal> totals = new HashMap<>(orderTotalCache.getAll(distinctIds));
+        final List<Long> missingIds = distinctIds.stream()
+                .filter(id -> !totals.containsKey(id))
+                .toList();
+        if (!missingIds.isEmpty()) {
+            final Map<Long, Long> readStamps = missingIds.stream()
+                    .collect(Collectors.toMap(id -> id, orderTotalCache::readStamp));
+            final List<OrderTotalDto> loadedTotals =
+                    ReadYourWrites.onPrimary(() -> orderRepository.findOrderTotalsByIdIn(missingIds));
+            for (final OrderTotalDto loaded : loadedTotals) {
+                totals.put(loaded.getId(), loaded.getOrderTotal());
+                orderTotalCache.put(loaded.getId(), loaded.getOrderTotal(), readStamps.get(loaded.getId()));
+            }
+        }
+        return distinctIds.stream()
+                .filter(totals::containsKey)
+                .map(id -> new OrderTotalDto(id, totals.get(id)))
+                .toList();
     }
 
     @Override
     @Transactional
     public void updateOrderStatus(final Long orderId, final PaymentStatus paymentStatus) {
         final Order order = orderValidator.checkOrderToExistence(orderId);
-        final OrderStatus status = paymentStatus == PaymentStatus.SUCCESS ?
+        order.setStatus(toOrderStatus(paymentStatus));
+        orderRepository.save(order);
+        evictCachedOrder(orderId);
+    }
+
+    @Override
+    @Transactional
+    public int updateOrderStatuses(final Map<Long, PaymentStatus> paymentStatuses) {
+        final Map<OrderStatus, List<Long>> orderIdsByStatus = paymentStatuses.entrySet().stream()
+                .collect(Collectors.groupingBy(
+                        entry -> toOrderStatus(entry.getValue()),
+                        () -> new EnumMap<>(OrderStatus.class),
+                        Collectors.mapping(Map.Entry::getKey, Collectors.toList())));
+
+        int updated = 0;
+        for (final Map.Entry<OrderStatus, List<Long>> entry : orderIdsByStatus.entrySet()) {
+            updated += orderRepository.updateStatusByIdIn(entry.getValue(), entry.getKey());
+        }
+        paymentStatuses.keySet().forEach(this::evictCachedOrder);
+        return updated;
+    }
+
+    private OrderStatus toOrderStatus(final PaymentStatus paymentStatus) {
+        return paymentStatus == PaymentStatus.SUCCESS ?
                 OrderStatus.PAID :
                 OrderStatus.UNPAID;
-        order.setStatus(status);
-        orderRepository.save(order);
     }
 
     @Override
@@ -198,19 +408,71 @@ public class OrderServiceImpl implements OrderService {
         return orderMapper.toResponseDtoList(userOrders);
     }
 
+    @Override
+    public CursorPageDto<OrderResponseDto> getOrdersPageByUserId(final Long userId,
+                                                                 final Long cursor,
+                                                                 final Integer size) {
+        if (size != null && size <= 0) {
+            throw new IllegalArgumentException("Page size must be positive");
+        }
+        orderValidator.validateUserExistence(userId);
+        final int pageSize = size == null ? defaultPageSize : Math.min(size, maxPageSize);
+        return loadOrderPage(userId, Objects.requireNonNullElse(cursor, 0L), pageSize);
+    }
+
+    @Override
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public Stream<OrderResponseDto> streamOrdersByUserId(final Long userId) {
+        orderValidator.validateUserExistence(userId);
+        return Stream.iterate(
+                        loadOrderPage(userId, 0L, streamChunkSize),
+                        Objects::nonNull,
+                        page -> page.isHasNext()
+                                ? loadOrderPage(userId, page.getNextCursor(), streamChunkSize)
+                                : null)
+                .flatMap(page -> page.getContent().stream());
+    }
+
+    private CursorPageDto<OrderResponseDto> loadOrderPage(final Long userId,
+                                                          final Long cursor,
+                                                          final int pageSize) {
+        final List<Long> ids = orderRepository.findOrderIdsByUserIdAfter(userId, cursor, Limit.of(pageSize + 1));
+        final boolean hasNext = ids.size() > pageSize;
+        final List<Long> pageIds = hasNext ? ids.subList(0, pageSize) : ids;
+
+        final List<Order> orders = pageIds.isEmpty()
+                ? List.of()
+                : orderRepository.findAllWithOrderItemsByIdIn(pageIds);
+
+        return CursorPageDto.<OrderResponseDto>builder()
+                .content(orderMapper.toResponseDtoList(orders))
+                .nextCursor(hasNext ? pageIds.getLast() : null)
+                .hasNext(hasNext)
+                .build();
+    }
+
     @Transactional(readOnly = true)
     @Override
     public boolean isOrderExistsById(final Long orderId) {
-        return orderRepository.existsById(orderId);
+        if (orderTotalCache.get(orderId).isPresent()) {
+            return true;
+        }
+        if (!orderIdFilter.mightContain(orderId)) {
+            return false;
+        }
+        final boolean exists = orderRepository.existsById(orderId);
+        if (!exists) {
+            orderIdFilter.recordFalsePositive();
+        }
+        return exists;
     }
 
-    private BigDecimal calculateNewTotal(final List<OrderItem> items){
-        BigDecimal total = BigDecimal.ZERO;
-        for(final OrderItem oi : items){
-            final BigDecimal price = oi.getItem().getPrice();
-            final long quantity = oi.getQuantity();
-            total = total.add(price.multiply(BigDecimal.valueOf(quantity)));
-        }
-        return total;
+    private void evictCachedOrder(final Long orderId) {
+        orderCache.evict(orderId);
+        orderTotalCache.evict(orderId);
+        TransactionCallbacks.afterCommit(() -> {
+            orderCache.evict(orderId);
+            orderTotalCache.evict(orderId);
+        });
     }
 }
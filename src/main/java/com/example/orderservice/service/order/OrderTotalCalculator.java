@@ -0,0 +1,34 @@
+package com.example.orderservice.service.order;
+
+import com.example.orderservice.model.Item;
+import com.example.orderservice.model.Money;
+import com.example.orderservice.model.OrderItem;
+import jakarta.validation.ValidationException;
+
+import java.util.Collection;
+import java.util.function.Function;
+
+/**
+ * Sums order lines as {@link Money} from unit prices already held in minor
+ * units, so a total costs no BigDecimal work per line.
+ */
+public final class OrderTotalCalculator {
+
+    private OrderTotalCalculator() {
+    }
+
+    /**
+     * @throws ValidationException if the total overflows or does not fit the order total column
+     */
+    public static Money calculate(final Collection<OrderItem> items, final Function<Item, Money> unitPrice) {
+        Money total = Money.ZERO;
+        try {
+            for (final OrderItem oi : items) {
+                total = total.plus(unitPrice.apply(oi.getItem()).times(oi.getQuantity()));
+            }
+            return total.requireStorable();
+        } catch (ArithmeticException e) {
+            throw new ValidationException("Order total is out of the supported range");
+        }
+    }
+}
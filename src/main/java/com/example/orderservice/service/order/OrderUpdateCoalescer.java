@@ -0,0 +1,189 @@
+package com.example.orderservice.service.order;
+
+import com.example.orderservice.dto.order.Operation;
+import com.example.orderservice.dto.order.OrderResponseDto;
+import com.example.orderservice.dto.order.OrderUpdateDto;
+import com.example.orderservice.dto.order.OrderUpdateNormalizer;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.BiFunction;
+
+/**
+ * Serializes updates per order on a fixed set of single-threaded stripes.
+ * <p>
+ * Updates that queue up for the same order while its stripe is busy are merged
+ * with {@link OrderUpdateNormalizer#merge} and applied as one transaction, so a
+ * hot order sees one writer at a time instead of many contending ones. Updates
+ * carrying an expected version are applied on their own, in arrival order. If
+ * a merged update fails, its updates are retried one by one so that a single
+ * bad request does not fail the others.
+ * <p>
+ * Disabled by default; when off, updates are applied directly on the caller's
+ * thread.
+ */
+@Slf4j
+@Component
+public class OrderUpdateCoalescer {
+
+    private final boolean enabled;
+    private final ExecutorService[] stripes;
+
+    private final Map<Long, List<PendingUpdate>> pending = new ConcurrentHashMap<>();
+    private final AtomicInteger pendingCount = new AtomicInteger();
+
+    private final Counter coalesced;
+    private final Counter fallbacks;
+    private final DistributionSummary drainSize;
+
+    public OrderUpdateCoalescer(final MeterRegistry meterRegistry,
+                                @Value("${order.update.coalescing.enabled:false}") final boolean enabled,
+                                @Value("${order.update.coalescing.stripes:16}") final int stripeCount) {
+        this.enabled = enabled;
+        this.stripes = new ExecutorService[enabled ? stripeCount : 0];
+        for (int i = 0; i < stripes.length; i++) {
+            stripes[i] = Executors.newSingleThreadExecutor(
+                    Thread.ofPlatform().name("order-update-" + i).daemon(true).factory());
+        }
+
+        Gauge.builder("order.update.pending", pendingCount, AtomicInteger::get)
+                .register(meterRegistry);
+        this.coalesced = Counter.builder("order.update.coalesced")
+                .register(meterRegistry);
+        this.fallbacks = Counter.builder("order.update.coalesced.fallbacks")
+                .register(meterRegistry);
+        this.drainSize = DistributionSummary.builder("order.update.drain.size")
+                .register(meterRegistry);
+    }
+
+    public OrderResponseDto submit(final OrderUpdateDto orderUpdateDto,
+                                   final Map<Long, Operation> ops,
+                                   final BiFunction<OrderUpdateDto, Map<Long, Operation>, OrderResponseDto> applier) {
+        if (!enabled) {
+            return applier.apply(orderUpdateDto, ops);
+        }
+        final Long orderId = orderUpdateDto.getId();
+        final PendingUpdate update = new PendingUpdate(orderUpdateDto, ops, new CompletableFuture<>());
+        final boolean[] scheduleDrain = new boolean[1];
+        pending.compute(orderId, (id, queued) -> {
+            if (queued == null) {
+                queued = new ArrayList<>();
+                scheduleDrain[0] = true;
+            }
+            queued.add(update);
+            return queued;
+        });
+        pendingCount.incrementAndGet();
+        if (scheduleDrain[0]) {
+            stripes[Math.floorMod(orderId.hashCode(), stripes.length)].execute(() -> drain(orderId, applier));
+        }
+        try {
+            return update.result().join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw e;
+        }
+    }
+
+    public int pendingUpdates() {
+        return pendingCount.get();
+    }
+
+    private void drain(final Long orderId,
+                       final BiFunction<OrderUpdateDto, Map<Long, Operation>, OrderResponseDto> applier) {
+        final List<PendingUpdate> batch = pending.remove(orderId);
+        pendingCount.addAndGet(-batch.size());
+        drainSize.record(batch.size());
+
+        int start = 0;
+        while (start < batch.size()) {
+            if (batch.get(start).dto().getVersion() != null) {
+                applyOne(batch.get(start), applier);
+                start++;
+                continue;
+            }
+            int end = start;
+            while (end < batch.size() && batch.get(end).dto().getVersion() == null) {
+                end++;
+            }
+            applyMerged(batch.subList(start, end), applier);
+            start = end;
+        }
+    }
+
+    private void applyMerged(final List<PendingUpdate> group,
+                             final BiFunction<OrderUpdateDto, Map<Long, Operation>, OrderResponseDto> applier) {
+        if (group.size() == 1) {
+            applyOne(group.getFirst(), applier);
+            return;
+        }
+        final OrderUpdateDto merged = OrderUpdateDto.builder()
+                .id(group.getFirst().dto().getId())
+                .build();
+        Map<Long, Operation> mergedOps = Map.of();
+        for (final PendingUpdate update : group) {
+            final OrderUpdateDto dto = update.dto();
+            if (dto.getUserId() != null) {
+                merged.setUserId(dto.getUserId());
+            }
+            if (dto.getStatus() != null) {
+                merged.setStatus(dto.getStatus());
+            }
+            if (dto.getOrderDate() != null) {
+                merged.setOrderDate(dto.getOrderDate());
+            }
+            mergedOps = OrderUpdateNormalizer.merge(mergedOps, update.ops());
+        }
+
+        final OrderResponseDto response;
+        try {
+            response = applier.apply(merged, mergedOps);
+        } catch (RuntimeException e) {
+            fallbacks.increment();
+            log.warn("Merged update of {} requests for order {} failed, applying them one by one",
+                    group.size(), merged.getId(), e);
+            group.forEach(update -> applyOne(update, applier));
+            return;
+        }
+        coalesced.increment(group.size() - 1);
+        group.forEach(update -> update.result().complete(response));
+    }
+
+    private void applyOne(final PendingUpdate update,
+                          final BiFunction<OrderUpdateDto, Map<Long, Operation>, OrderResponseDto> applier) {
+        try {
+            update.result().complete(applier.apply(update.dto(), update.ops()));
+        } catch (RuntimeException e) {
+            update.result().completeExceptionally(e);
+        }
+    }
+
+    @PreDestroy
+    void shutdown() {
+        for (final ExecutorService stripe : stripes) {
+            stripe.shutdown();
+        }
+    }
+
+    private record PendingUpdate(OrderUpdateDto dto,
+                                 Map<Long, Operation> ops,
+                                 CompletableFuture<OrderResponseDto> result) {
+    }
+}
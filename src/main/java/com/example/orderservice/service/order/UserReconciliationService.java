@@ -0,0 +1,86 @@
+package com.example.orderservice.service.order;
+
+import com.example.orderservice.cache.order.OrderCache;
+import com.example.orderservice.client.UserServiceClient;
+import com.example.orderservice.exception.user.UserNotFoundException;
+import com.example.orderservice.exception.user.UserServiceUnavailableException;
+import com.example.orderservice.model.OrderStatus;
+import com.example.orderservice.repository.order.OrderRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.Limit;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Re-checks users whose orders were accepted while the user service was
+ * unavailable and cancels the orders of users that turn out not to exist.
+ * Pending users are kept in memory only.
+ */
+@Slf4j
+@Service
+public class UserReconciliationService {
+
+    private final Set<Long> pendingUserIds = ConcurrentHashMap.newKeySet();
+
+    private final UserServiceClient userServiceClient;
+    private final OrderRepository orderRepository;
+    private final OrderCache orderCache;
+    private final TransactionTemplate transactionTemplate;
+
+    private final Counter canceledOrders;
+
+    public UserReconciliationService(final UserServiceClient userServiceClient,
+                                     final OrderRepository orderRepository,
+                                     final OrderCache orderCache,
+                                     final TransactionTemplate transactionTemplate,
+                                     final MeterRegistry meterRegistry) {
+        this.userServiceClient = userServiceClient;
+        this.orderRepository = orderRepository;
+        this.orderCache = orderCache;
+        this.transactionTemplate = transactionTemplate;
+
+        meterRegistry.gaugeCollectionSize("order.user-reconciliation.pending", Tags.empty(), pendingUserIds);
+        this.canceledOrders = Counter.builder("order.user-reconciliation.canceled")
+                .register(meterRegistry);
+    }
+
+    public void scheduleCheck(final Long userId) {
+        pendingUserIds.add(userId);
+    }
+
+    @Scheduled(initialDelayString = "${user.service.reconciliation-interval-ms:30000}",
+            fixedDelayString = "${user.service.reconciliation-interval-ms:30000}")
+    public void reconcilePendingUsers() {
+        for (final Long userId : List.copyOf(pendingUserIds)) {
+            try {
+                userServiceClient.validateUserExists(userId);
+            } catch (UserNotFoundException e) {
+                cancelOrdersOf(userId);
+            } catch (UserServiceUnavailableException e) {
+                log.debug("User service still unavailable, {} users left to reconcile", pendingUserIds.size());
+                return;
+            }
+            pendingUserIds.remove(userId);
+        }
+    }
+
+    private void cancelOrdersOf(final Long userId) {
+        final List<Long> orderIds = orderRepository.findOrderIdsByUserIdAfter(userId, 0L, Limit.unlimited());
+        if (orderIds.isEmpty()) {
+            return;
+        }
+        transactionTemplate.executeWithoutResult(status ->
+                orderRepository.updateStatusByIdIn(orderIds, OrderStatus.CANCELED));
+        orderIds.forEach(orderCache::evict);
+        canceledOrders.increment(orderIds.size());
+        log.warn("Canceled {} orders of nonexistent user {}", orderIds.size(), userId);
+    }
+}
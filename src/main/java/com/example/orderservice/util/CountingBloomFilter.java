@@ -0,0 +1,128 @@
+package com.example.orderservice.util;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * Counting Bloom filter over {@code long} keys with 4-bit counters packed
+ * sixteen to a word. Counters that reach 15 stick there, so an overflowing
+ * slot can only cause false positives, never false negatives. Removing a key
+ * that was never added corrupts the filter; callers only remove keys they
+ * added.
+ */
+public class CountingBloomFilter {
+
+    private static final int COUNTERS_PER_WORD = 16;
+    private static final long COUNTER_MASK = 0xFL;
+    private static final long SATURATED = 0xFL;
+
+    private final AtomicLongArray words;
+    private final long counterCount;
+    private final int hashCount;
+    private final AtomicLong approximateSize = new AtomicLong();
+
+    private CountingBloomFilter(final long counterCount, final int hashCount) {
+        this.counterCount = counterCount;
+        this.hashCount = hashCount;
+        this.words = new AtomicLongArray(Math.toIntExact((counterCount + COUNTERS_PER_WORD - 1) / COUNTERS_PER_WORD));
+    }
+
+    public static CountingBloomFilter create(final long expectedInsertions, final double falsePositiveRate) {
+        if (expectedInsertions <= 0 || falsePositiveRate <= 0 || falsePositiveRate >= 1) {
+            throw new IllegalArgumentException("Expected insertions must be positive and the rate within (0, 1)");
+        }
+        final long counters = Math.max(COUNTERS_PER_WORD,
+                (long) Math.ceil(-expectedInsertions * Math.log(falsePositiveRate) / (Math.log(2) * Math.log(2))));
+        final int hashes = Math.max(1, (int) Math.round((double) counters / expectedInsertions * Math.log(2)));
+        return new CountingBloomFilter(counters, hashes);
+    }
+
+    public void add(final long key) {
+        final long h1 = mix(key);
+        final long h2 = mix(h1 ^ 0x9E3779B97F4A7C15L) | 1;
+        for (int i = 0; i < hashCount; i++) {
+            increment(index(h1, h2, i));
+        }
+        approximateSize.incrementAndGet();
+    }
+
+    public void remove(final long key) {
+        final long h1 = mix(key);
+        final long h2 = mix(h1 ^ 0x9E3779B97F4A7C15L) | 1;
+        for (int i = 0; i < hashCount; i++) {
+            decrement(index(h1, h2, i));
+        }
+        approximateSize.decrementAndGet();
+    }
+
+    public boolean mightContain(final long key) {
+        final long h1 = mix(key);
+        final long h2 = mix(h1 ^ 0x9E3779B97F4A7C15L) | 1;
+        for (int i = 0; i < hashCount; i++) {
+            if (counter(index(h1, h2, i)) == 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * False-positive rate expected at the current number of keys.
+     */
+    public double expectedFalsePositiveRate() {
+        final double keys = Math.max(0, approximateSize.get());
+        return Math.pow(1 - Math.exp(-hashCount * keys / counterCount), hashCount);
+    }
+
+    public long approximateSize() {
+        return approximateSize.get();
+    }
+
+    public long memoryBytes() {
+        return (long) words.length() * Long.BYTES;
+    }
+
+    private long index(final long h1, final long h2, final int i) {
+        return Math.floorMod(h1 + i * h2, counterCount);
+    }
+
+    private long counter(final long index) {
+        final long word = words.get((int) (index / COUNTERS_PER_WORD));
+        return (word >>> shift(index)) & COUNTER_MASK;
+    }
+
+    private void increment(final long index) {
+        final int wordIndex = (int) (index / COUNTERS_PER_WORD);
+        final int shift = shift(index);
+        long word;
+        do {
+            word = words.get(wordIndex);
+            if (((word >>> shift) & COUNTER_MASK) == SATURATED) {
+                return;
+            }
+        } while (!words.compareAndSet(wordIndex, word, word + (1L << shift)));
+    }
+
+    private void decrement(final long index) {
+        final int wordIndex = (int) (index / COUNTERS_PER_WORD);
+        final int shift = shift(index);
+        long word;
+        do {
+            word = words.get(wordIndex);
+            final long value = (word >>> shift) & COUNTER_MASK;
+            if (value == 0 || value == SATURATED) {
+                return;
+            }
+        } while (!words.compareAndSet(wordIndex, word, word - (1L << shift)));
+    }
+
+    private static int shift(final long index) {
+        return (int) (index % COUNTERS_PER_WORD) * 4;
+    }
+
+    private static long mix(long z) {
+        z = (z ^ (z >>> 33)) * 0xFF51AFD7ED558CCDL;
+        z = (z ^ (z >>> 33)) * 0xC4CEB9FE1A85EC53L;
+        return z ^ (z >>> 33);
+    }
+}
@@ -0,0 +1,45 @@
+package com.example.orderservice.util;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+/**
+ * Tracks how many calls of an operation are running right now and the highest
+ * concurrency seen since the last {@link #resetPeak()}.
+ */
+public class InFlightRequests {
+
+    private final AtomicInteger current = new AtomicInteger();
+    private final AtomicInteger peak = new AtomicInteger();
+
+    public InFlightRequests(final String name, final MeterRegistry meterRegistry) {
+        Gauge.builder(name, current, AtomicInteger::get)
+                .register(meterRegistry);
+        Gauge.builder(name + ".peak", peak, AtomicInteger::get)
+                .register(meterRegistry);
+    }
+
+    public <T> T track(final Supplier<T> call) {
+        peak.accumulateAndGet(current.incrementAndGet(), Math::max);
+        try {
+            return call.get();
+        } finally {
+            current.decrementAndGet();
+        }
+    }
+
+    public int current() {
+        return current.get();
+    }
+
+    public int peak() {
+        return peak.get();
+    }
+
+    public void resetPeak() {
+        peak.set(current.get());
+    }
+}
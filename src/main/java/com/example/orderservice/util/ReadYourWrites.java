@@ -0,0 +1,45 @@
+package com.example.orderservice.util;
+
+import java.util.function.Supplier;
+
+/**
+ * Per-thread flag that keeps read-only transactions on the primary, so a
+ * caller that has just written does not read from a lagging replica.
+ */
+public final class ReadYourWrites {
+
+    private static final ThreadLocal<Boolean> PINNED = new ThreadLocal<>();
+
+    private ReadYourWrites() {
+    }
+
+    public static void pinToPrimary() {
+        PINNED.set(Boolean.TRUE);
+    }
+
+    public static void release() {
+        PINNED.remove();
+    }
+
+    public static boolean isPinnedToPrimary() {
+        return PINNED.get() != null;
+    }
+
+    /**
+     * Runs {@code work} pinned to the primary and restores the previous pin.
+     * Loads that fill shared caches go through here, since an eviction cannot
+     * protect against a row read later from a lagging replica. The pin only
+     * routes connections acquired inside {@code work}.
+     */
+    public static <T> T onPrimary(final Supplier<T> work) {
+        final boolean wasPinned = isPinnedToPrimary();
+        pinToPrimary();
+        try {
+            return work.get();
+        } finally {
+            if (!wasPinned) {
+                release();
+            }
+        }
+    }
+}
@@ -0,0 +1,59 @@
+package com.example.orderservice.util;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.aopalliance.intercept.MethodInterceptor;
+import org.aopalliance.intercept.MethodInvocation;
+
+import java.lang.reflect.Method;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+/**
+ * Times every call of the intercepted service methods. Timers are resolved
+ * once per method and outcome, so a call only reads the clock twice and does
+ * not allocate tags or look meters up in the registry.
+ */
+public class ServiceTimingInterceptor implements MethodInterceptor {
+
+    public static final String METRIC_NAME = "order.service.calls";
+
+    private final Supplier<MeterRegistry> meterRegistry;
+    private final Map<Method, Timer[]> timers = new ConcurrentHashMap<>();
+
+    public ServiceTimingInterceptor(final Supplier<MeterRegistry> meterRegistry) {
+        this.meterRegistry = meterRegistry;
+    }
+
+    @Override
+    public Object invoke(final MethodInvocation invocation) throws Throwable {
+        final Method method = invocation.getMethod();
+        Timer[] methodTimers = timers.get(method);
+        if (methodTimers == null) {
+            methodTimers = timers.computeIfAbsent(method, this::createTimers);
+        }
+        final long started = System.nanoTime();
+        try {
+            final Object result = invocation.proceed();
+            methodTimers[0].record(System.nanoTime() - started, TimeUnit.NANOSECONDS);
+            return result;
+        } catch (Throwable e) {
+            methodTimers[1].record(System.nanoTime() - started, TimeUnit.NANOSECONDS);
+            throw e;
+        }
+    }
+
+    private Timer[] createTimers(final Method method) {
+        return new Timer[] {createTimer(method, "success"), createTimer(method, "error")};
+    }
+
+    private Timer createTimer(final Method method, final String outcome) {
+        return Timer.builder(METRIC_NAME)
+                .tag("class", method.getDeclaringClass().getSimpleName())
+                .tag("method", method.getName())
+                .tag("outcome", outcome)
+                .register(meterRegistry.get());
+    }
+}
@@ -0,0 +1,42 @@
+package com.example.orderservice.util;
+
+/**
+ * Per-thread count of SQL statements prepared by Hibernate while a request
+ * is being handled. Counting is off unless {@link #start()} was called on the
+ * current thread.
+ */
+public final class StatementCounter {
+
+    private static final ThreadLocal<int[]> COUNT = new ThreadLocal<>();
+
+    private StatementCounter() {
+    }
+
+    public static void start() {
+        final int[] count = COUNT.get();
+        if (count == null) {
+            COUNT.set(new int[1]);
+        } else {
+            count[0] = 0;
+        }
+    }
+
+    public static void increment() {
+        final int[] count = COUNT.get();
+        if (count != null) {
+            count[0]++;
+        }
+    }
+
+    /**
+     * Stops counting on the current thread and returns the statements seen since {@link #start()}.
+     */
+    public static int stop() {
+        final int[] count = COUNT.get();
+        if (count == null) {
+            return 0;
+        }
+        COUNT.remove();
+        return count[0];
+    }
+}
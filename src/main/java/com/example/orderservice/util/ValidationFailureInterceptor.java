@@ -0,0 +1,38 @@
+package com.example.orderservice.util;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.aopalliance.intercept.MethodInterceptor;
+import org.aopalliance.intercept.MethodInvocation;
+
+import java.util.function.Supplier;
+
+/**
+ * Counts exceptions thrown by validators, tagged by validator, method and
+ * exception type. Only the failure path touches the registry.
+ */
+public class ValidationFailureInterceptor implements MethodInterceptor {
+
+    public static final String METRIC_NAME = "order.validation.failures";
+
+    private final Supplier<MeterRegistry> meterRegistry;
+
+    public ValidationFailureInterceptor(final Supplier<MeterRegistry> meterRegistry) {
+        this.meterRegistry = meterRegistry;
+    }
+
+    @Override
+    public Object invoke(final MethodInvocation invocation) throws Throwable {
+        try {
+            return invocation.proceed();
+        } catch (RuntimeException e) {
+            Counter.builder(METRIC_NAME)
+                    .tag("validator", invocation.getMethod().getDeclaringClass().getSimpleName())
+                    .tag("method", invocation.getMethod().getName())
+                    .tag("reason", e.getClass().getSimpleName())
+                    .register(meterRegistry.get())
+                    .increment();
+            throw e;
+        }
+    }
+}
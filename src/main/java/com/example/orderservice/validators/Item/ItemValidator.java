@@ -1,5 +1,6 @@
 package com.example.orderservice.validators.Item;
 
+import com.example.orderservice.cache.item.ItemCatalog;
 import com.example.orderservice.dto.item.ItemCreateDto;
 import com.example.orderservice.dto.item.ItemUpdateDto;
 import com.example.orderservice.exception.item.ItemNotFoundException;
@@ -12,38 +13,44 @@ import org.springframework.stereotype.Component;
 
 import java.util.Collections;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
-import java.util.stream.Collectors;
 
 @Component
 @RequiredArgsConstructor
 public class ItemValidator implements Validator<ItemCreateDto, ItemUpdateDto> {
 
     private final ItemRepository itemRepository;
+    private final ItemCatalog itemCatalog;
 
     @Override
     public void validateCreateDto(final ItemCreateDto createDto) {
-        final String itemName = createDto.getName();
-
-        checkNameUniques(itemName);
-
+        checkNameUniques(null, createDto.getName());
     }
 
     @Override
     public void validateUpdateDto(final ItemUpdateDto updateDto) {
-        final String itemName = updateDto.getName();
-
-        checkNameUniques(itemName);
-
+        checkNameUniques(updateDto.getId(), updateDto.getName());
     }
 
-    private void checkNameUniques(final String itemName){
-        boolean exists = itemRepository.existsByName(itemName);
-        if(exists) {
-            throw new ValidationException("Item with name " + itemName + " already exists");
+    /**
+     * Answers from the catalog's name index without SQL. Names taken by rows
+     * the catalog has not seen yet, including concurrent creates, are caught by
+     * the unique constraint and reported through {@link #nameTaken(String)}.
+     */
+    private void checkNameUniques(final Long itemId, final String itemName){
+        if (itemName == null) {
+            return;
+        }
+        final Optional<Long> ownerId = itemCatalog.findIdByName(itemName);
+        if (ownerId.isPresent() && !ownerId.get().equals(itemId)) {
+            throw nameTaken(itemName);
         }
+    }
 
+    public static ValidationException nameTaken(final String itemName) {
+        return new ValidationException("Item with name " + itemName + " already exists");
     }
 
     public List<Item> getExistsItems(final List<Long> itemIds){
@@ -51,34 +58,48 @@ public class ItemValidator implements Validator<ItemCreateDto, ItemUpdateDto> {
             return Collections.emptyList();
         }
 
-        final List<Item> items = itemRepository.findExistingItems(itemIds);
-
-        if (items.size() != itemIds.size()) {
-            final Set<Long> foundIds = items.stream()
-                    .map(Item::getId)
-                    .collect(Collectors.toSet());
-
-            final List<Long> missingIds = itemIds.stream()
-                    .filter(id -> !foundIds.contains(id))
-                    .toList();
+        final Map<Long, Item> items = itemCatalog.findItems(itemIds);
 
+        final List<Long> missingIds = itemIds.stream()
+                .filter(id -> !items.containsKey(id))
+                .toList();
+        if (!missingIds.isEmpty()) {
             throw new ItemNotFoundException("Missing items: " + missingIds);
         }
-        return items;
+        return List.copyOf(items.values());
     }
 
     public List<Long> checkItemsToExistByIds(final Set<Long> itemIds){
         if (itemIds == null || itemIds.isEmpty()) {
             return Collections.emptyList();
         }
-        final List<Long> existingItemsIds = itemRepository.findExistingItemsIds(itemIds);
-        if (existingItemsIds.size() != itemIds.size()) {
+        final Map<Long, Item> existingItems = itemCatalog.findItems(itemIds);
+        requireAllFound(itemIds, existingItems);
+        return List.copyOf(existingItems.keySet());
+    }
+
+    public void requireAllFound(final Set<Long> itemIds, final Map<Long, Item> existingItems){
+        if (existingItems.size() != itemIds.size()) {
             final List<Long> missingIds = itemIds.stream()
-                    .filter(id -> !existingItemsIds.contains(id))
+                    .filter(id -> !existingItems.containsKey(id))
                     .toList();
             throw new ItemNotFoundException("Missing existingItemsIds: " + missingIds);
         }
-        return existingItemsIds;
+    }
+
+    public Map<Long, Item> findExistingItems(final Set<Long> itemIds){
+        if (itemIds == null || itemIds.isEmpty()) {
+            return Collections.emptyMap();
+        }
+        return itemCatalog.findItems(itemIds);
+    }
+
+    /**
+     * Read-only lookup served from the item catalog; the returned item is detached.
+     */
+    public Item getExistingItem(final Long id){
+        return itemCatalog.findItem(id)
+                .orElseThrow(() -> new ItemNotFoundException("Item with id " + id + " does not exist"));
     }
 
     public Item checkItemToExistence(final Long id){
@@ -0,0 +1,10 @@
+package com.example.orderservice.validators.order;
+
+import com.example.orderservice.model.Item;
+
+import java.util.Map;
+
+public record OrderBatchValidation(
+        Map<Integer, String> failures,
+        Map<Long, Item> itemsById
+) { }
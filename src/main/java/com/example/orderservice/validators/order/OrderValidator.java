@@ -1,6 +1,8 @@
 package com.example.orderservice.validators.order;
 
+import com.example.orderservice.cache.order.OrderIdFilter;
 import com.example.orderservice.client.UserServiceClient;
+import com.example.orderservice.client.UserServiceUnavailablePolicy;
 import com.example.orderservice.dto.order.OrderCreateDto;
 import com.example.orderservice.dto.order.OrderUpdateDto;
 import com.example.orderservice.dto.orderItem.OrderItemCommon;
@@ -8,34 +10,60 @@ import com.example.orderservice.dto.orderItem.OrderItemCreateDto;
 import com.example.orderservice.dto.orderItem.OrderItemUpdateDto;
 import com.example.orderservice.exception.item.ItemNotFoundException;
 import com.example.orderservice.exception.order.OrderNotFoundException;
+import com.example.orderservice.exception.user.UserNotFoundException;
+import com.example.orderservice.exception.user.UserServiceUnavailableException;
+import com.example.orderservice.model.Item;
 import com.example.orderservice.model.Order;
 import com.example.orderservice.repository.order.OrderRepository;
+import com.example.orderservice.service.order.UserReconciliationService;
 import com.example.orderservice.validators.Validator;
 import com.example.orderservice.validators.Item.ItemValidator;
 import jakarta.validation.ValidationException;
 import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
 
 import java.util.ArrayList;
 import java.util.Collections;
+import java.util.HashMap;
 import java.util.HashSet;
 import java.util.Iterator;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 
+@Slf4j
 @Component
 @RequiredArgsConstructor
 public class OrderValidator implements Validator<OrderCreateDto, OrderUpdateDto> {
 
     private final ItemValidator itemValidator;
     private final OrderRepository orderRepository;
+    private final OrderIdFilter orderIdFilter;
 
     private final UserServiceClient client;
+    private final UserReconciliationService userReconciliationService;
+
+    @Value("${user.service.unavailable-policy:FAIL_FAST}")
+    private UserServiceUnavailablePolicy unavailablePolicy;
 
     @Override
     public void validateCreateDto(final OrderCreateDto createDto) {
+        validateAndLoadCreateDto(createDto);
+    }
+
+    /**
+     * Validates {@code createDto} and returns its items keyed by id, so the
+     * caller does not look them up again. The remote user check runs while
+     * the items are loaded; a failed user check wins over missing items.
+     */
+    public Map<Long, Item> validateAndLoadCreateDto(final OrderCreateDto createDto) {
         final Set<Long> itemIds = createDto.getOrderItems()
                 .stream()
                 .map(OrderItemCreateDto::getItemId)
@@ -44,8 +72,12 @@ public class OrderValidator implements Validator<OrderCreateDto, OrderUpdateDto>
             throw new ValidationException("itemIds is null or empty");
         }
 
-        validateUserExistence(createDto.getUserId());
-        itemValidator.checkItemsToExistByIds(itemIds);
+        final CompletableFuture<Void> userCheck = client.validateUserExistsAsync(createDto.getUserId());
+        final Map<Long, Item> itemsById = itemValidator.findExistingItems(itemIds);
+
+        checkUserForCreation(createDto.getUserId(), userCheck);
+        itemValidator.requireAllFound(itemIds, itemsById);
+        return itemsById;
     }
 
     @Override
@@ -65,6 +97,46 @@ public class OrderValidator implements Validator<OrderCreateDto, OrderUpdateDto>
 
     }
 
+    public OrderBatchValidation validateCreateDtos(final List<OrderCreateDto> createDtos) {
+        final Map<Long, CompletableFuture<Void>> userChecks = new LinkedHashMap<>();
+        createDtos.forEach(dto -> userChecks.computeIfAbsent(dto.getUserId(), client::validateUserExistsAsync));
+
+        final Set<Long> allItemIds = createDtos.stream()
+                .flatMap(dto -> dto.getOrderItems().stream())
+                .map(OrderItemCreateDto::getItemId)
+                .collect(Collectors.toSet());
+        final Map<Long, Item> itemsById = itemValidator.findExistingItems(allItemIds);
+
+        final Map<Long, String> userFailures = new HashMap<>();
+        userChecks.forEach((userId, userCheck) -> {
+            try {
+                checkUserForCreation(userId, userCheck);
+            } catch (UserNotFoundException | UserServiceUnavailableException e) {
+                userFailures.put(userId, e.getMessage());
+            }
+        });
+
+        final Map<Integer, String> failures = new HashMap<>();
+        for (int i = 0; i < createDtos.size(); i++) {
+            final OrderCreateDto createDto = createDtos.get(i);
+            final List<Long> missingIds = createDto.getOrderItems()
+                    .stream()
+                    .map(OrderItemCreateDto::getItemId)
+                    .filter(id -> !itemsById.containsKey(id))
+                    .distinct()
+                    .toList();
+
+            if (createDto.getOrderItems().isEmpty()) {
+                failures.put(i, "itemIds is null or empty");
+            } else if (userFailures.containsKey(createDto.getUserId())) {
+                failures.put(i, userFailures.get(createDto.getUserId()));
+            } else if (!missingIds.isEmpty()) {
+                failures.put(i, "Missing items: " + missingIds);
+            }
+        }
+        return new OrderBatchValidation(failures, itemsById);
+    }
+
     private Set<Long> safeSet(final Set<Long> input) {
         return input != null ? new HashSet<>(input) : new HashSet<>();
     }
@@ -78,12 +150,24 @@ public class OrderValidator implements Validator<OrderCreateDto, OrderUpdateDto>
         client.validateUserExists(userId);
     }
 
+    private void checkUserForCreation(final Long userId, final CompletableFuture<Void> userCheck) {
+        try {
+            UserServiceClient.await(userCheck);
+        } catch (UserServiceUnavailableException e) {
+            if (unavailablePolicy == UserServiceUnavailablePolicy.FAIL_FAST) {
+                throw e;
+            }
+            log.warn("Accepting order of unverified user {}: {}", userId, e.getMessage());
+            userReconciliationService.scheduleCheck(userId);
+        }
+    }
+
     public List<Order> checkOrdersToExistence(final List<Long> orderIds){
         if(orderIds == null || orderIds.isEmpty()) {
             return Collections.emptyList();
         }
 
-        final List<Order> orders = orderRepository.findAllById(orderIds);
+        final List<Order> orders = orderRepository.findAllWithOrderItemsByIdIn(orderIds);
 
         if (orders.size() != orderIds.size()) {
             final Set<Long> foundIds = orders.stream()
@@ -100,12 +184,25 @@ public class OrderValidator implements Validator<OrderCreateDto, OrderUpdateDto>
     }
 
     public Order checkOrderToExistence(final Long orderId){
+        return requireOrder(orderId, orderRepository::findById);
+    }
+
+    public Order checkOrderWithItemsToExistence(final Long orderId){
+        return requireOrder(orderId, orderRepository::findWithOrderItemsById);
+    }
+
+    private Order requireOrder(final Long orderId, final Function<Long, Optional<Order>> loader){
         if(orderId == null || orderId <= 0) {
             throw new IllegalArgumentException("orderId is null or empty");
         }
 
-        final Optional<Order> order = orderRepository.findById(orderId);
+        if(!orderIdFilter.mightContain(orderId)) {
+            throw new OrderNotFoundException(orderId);
+        }
+
+        final Optional<Order> order = loader.apply(orderId);
         if(order.isEmpty()){
+            orderIdFilter.recordFalsePositive();
             throw new OrderNotFoundException(orderId);
         }
 
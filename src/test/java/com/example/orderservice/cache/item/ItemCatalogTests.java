@@ -0,0 +1,72 @@
+package com.example.orderservice.cache.item;
+
+import com.example.orderservice.model.Item;
+import com.example.orderservice.repository.item.ItemRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class ItemCatalogTests {
+
+    private static final Item KEPT = item(1L, "Kept");
+    private static final Item DELETED = item(2L, "Deleted");
+
+    private ItemRepository itemRepository;
+    private ItemCatalog itemCatalog;
+
+    @BeforeEach
+    void setUp() {
+        itemRepository = mock(ItemRepository.class);
+        itemCatalog = new ItemCatalog(itemRepository, new SimpleMeterRegistry());
+    }
+
+    @Test
+    void reload_ItemRemovedDuringRead_ShouldRetryInsteadOfRestoringIt() {
+        itemCatalog.put(KEPT);
+        itemCatalog.put(DELETED);
+        when(itemRepository.findAll())
+                .thenAnswer(invocation -> {
+                    itemCatalog.remove(DELETED.getId());
+                    return List.of(KEPT, DELETED);
+                })
+                .thenReturn(List.of(KEPT));
+
+        itemCatalog.reload();
+
+        verify(itemRepository, times(2)).findAll();
+        assertEquals(List.of(KEPT), itemCatalog.findAll());
+    }
+
+    @Test
+    void findItems_ItemRemovedDuringFallbackRead_ShouldNotCacheIt() {
+        when(itemRepository.findExistingItems(anyList())).thenAnswer(invocation -> {
+            itemCatalog.remove(DELETED.getId());
+            return List.of(DELETED);
+        });
+
+        itemCatalog.findItems(List.of(DELETED.getId()));
+
+        assertTrue(itemCatalog.findAll().isEmpty());
+        assertTrue(itemCatalog.findIdByName(DELETED.getName()).isEmpty());
+    }
+
+    private static Item item(final Long id, final String name) {
+        return Item.builder()
+                .id(id)
+                .name(name)
+                .price(BigDecimal.TEN)
+                .version(0L)
+                .build();
+    }
+}
@@ -0,0 +1,67 @@
+package com.example.orderservice.cache.order;
+
+import com.example.orderservice.repository.order.OrderRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.domain.Limit;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.stream.LongStream;
+
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class OrderIdFilterTests {
+
+    private static final int STORED_ORDERS = 1_000;
+
+    private OrderIdFilter orderIdFilter;
+
+    @BeforeEach
+    void setUp() {
+        final OrderRepository orderRepository = mock(OrderRepository.class);
+        when(orderRepository.count()).thenReturn((long) STORED_ORDERS);
+        when(orderRepository.findIdsAfter(eq(0L), any(Limit.class)))
+                .thenReturn(LongStream.rangeClosed(1, STORED_ORDERS).boxed().toList());
+        when(orderRepository.findIdsAfter(eq((long) STORED_ORDERS), any(Limit.class)))
+                .thenReturn(List.of());
+        // A small, crowded filter so that unknown ids often share counters with stored ones.
+        orderIdFilter = new OrderIdFilter(orderRepository, new SimpleMeterRegistry(),
+                true, STORED_ORDERS, 0.2, STORED_ORDERS, Duration.ofMinutes(5));
+        orderIdFilter.rebuild();
+    }
+
+    @Test
+    void remove_IdsNeverAdded_ShouldKeepStoredIds() {
+        for (long id = 100_000; id < 110_000; id++) {
+            orderIdFilter.remove(id);
+        }
+
+        assertAllStoredIdsPresent();
+    }
+
+    @Test
+    void remove_SameIdRepeatedly_ShouldDecrementOnlyOnce() {
+        orderIdFilter.add(5_000L);
+
+        for (int i = 0; i < 100; i++) {
+            orderIdFilter.remove(5_000L);
+            orderIdFilter.remove(1L);
+        }
+
+        for (long id = 2; id <= STORED_ORDERS; id++) {
+            assertTrue(orderIdFilter.mightContain(id));
+        }
+    }
+
+    private void assertAllStoredIdsPresent() {
+        for (long id = 1; id <= STORED_ORDERS; id++) {
+            assertTrue(orderIdFilter.mightContain(id));
+        }
+    }
+}
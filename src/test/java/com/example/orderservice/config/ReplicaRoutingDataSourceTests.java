@@ -0,0 +1,109 @@
+package com.example.orderservice.config;
+
+import com.example.orderservice.util.ReadYourWrites;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import javax.sql.DataSource;
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.Mockito.mock;
+
+class ReplicaRoutingDataSourceTests {
+
+    private static final String REPLICA_1 = "replica-0";
+    private static final String REPLICA_2 = "replica-1";
+
+    @AfterEach
+    void tearDown() {
+        TransactionSynchronizationManager.setCurrentTransactionReadOnly(false);
+        ReadYourWrites.release();
+    }
+
+    @Test
+    void determineCurrentLookupKey_WriteTransaction_ShouldUsePrimary() {
+        final ReplicaRoutingDataSource routing = routing(ReplicaSelectionStrategy.ROUND_ROBIN);
+        routing.recordProbe(REPLICA_1, 1_000, 0L);
+
+        assertEquals(ReplicaRoutingDataSource.PRIMARY, routing.determineCurrentLookupKey());
+    }
+
+    @Test
+    void determineCurrentLookupKey_ReadOnlyBeforeFirstProbe_ShouldUsePrimary() {
+        final ReplicaRoutingDataSource routing = routing(ReplicaSelectionStrategy.ROUND_ROBIN);
+        TransactionSynchronizationManager.setCurrentTransactionReadOnly(true);
+
+        assertEquals(ReplicaRoutingDataSource.PRIMARY, routing.determineCurrentLookupKey());
+    }
+
+    @Test
+    void determineCurrentLookupKey_RoundRobin_ShouldAlternateHealthyReplicas() {
+        final ReplicaRoutingDataSource routing = routing(ReplicaSelectionStrategy.ROUND_ROBIN);
+        routing.recordProbe(REPLICA_1, 1_000, 0L);
+        routing.recordProbe(REPLICA_2, 1_000, 0L);
+        TransactionSynchronizationManager.setCurrentTransactionReadOnly(true);
+
+        final List<Object> keys = List.of(
+                routing.determineCurrentLookupKey(),
+                routing.determineCurrentLookupKey(),
+                routing.determineCurrentLookupKey());
+
+        assertEquals(List.of(REPLICA_1, REPLICA_2, REPLICA_1), keys);
+    }
+
+    @Test
+    void determineCurrentLookupKey_LeastLatency_ShouldSkipLaggingReplica() {
+        final ReplicaRoutingDataSource routing = routing(ReplicaSelectionStrategy.LEAST_LATENCY);
+        routing.recordProbe(REPLICA_1, 1_000, 30L);
+        routing.recordProbe(REPLICA_2, 5_000, 0L);
+        TransactionSynchronizationManager.setCurrentTransactionReadOnly(true);
+
+        assertEquals(REPLICA_2, routing.determineCurrentLookupKey());
+
+        routing.recordProbe(REPLICA_1, 1_000, 0L);
+        assertEquals(REPLICA_1, routing.determineCurrentLookupKey());
+
+        routing.recordProbe(REPLICA_1, 1_000, null);
+        assertEquals(REPLICA_2, routing.determineCurrentLookupKey());
+    }
+
+    @Test
+    void determineCurrentLookupKey_PinnedAfterWrite_ShouldUsePrimary() {
+        final ReplicaRoutingDataSource routing = routing(ReplicaSelectionStrategy.ROUND_ROBIN);
+        routing.recordProbe(REPLICA_1, 1_000, 0L);
+        TransactionSynchronizationManager.setCurrentTransactionReadOnly(true);
+        ReadYourWrites.pinToPrimary();
+
+        assertEquals(ReplicaRoutingDataSource.PRIMARY, routing.determineCurrentLookupKey());
+    }
+
+    @Test
+    void determineCurrentLookupKey_CacheFillingLoad_ShouldUsePrimaryOnlyWhileLoading() {
+        final ReplicaRoutingDataSource routing = routing(ReplicaSelectionStrategy.ROUND_ROBIN);
+        routing.recordProbe(REPLICA_1, 1_000, 0L);
+        TransactionSynchronizationManager.setCurrentTransactionReadOnly(true);
+
+        assertEquals(ReplicaRoutingDataSource.PRIMARY, ReadYourWrites.onPrimary(routing::determineCurrentLookupKey));
+        assertEquals(REPLICA_1, routing.determineCurrentLookupKey());
+
+        ReadYourWrites.pinToPrimary();
+        ReadYourWrites.onPrimary(routing::determineCurrentLookupKey);
+        assertEquals(ReplicaRoutingDataSource.PRIMARY, routing.determineCurrentLookupKey());
+    }
+
+    private static ReplicaRoutingDataSource routing(final ReplicaSelectionStrategy strategy) {
+        final Map<String, DataSource> replicas = new LinkedHashMap<>();
+        replicas.put(REPLICA_1, mock(DataSource.class));
+        replicas.put(REPLICA_2, mock(DataSource.class));
+        final ReplicaRoutingDataSource routing = new ReplicaRoutingDataSource(
+                mock(DataSource.class), replicas, strategy, Duration.ofSeconds(5), new SimpleMeterRegistry());
+        routing.afterPropertiesSet();
+        return routing;
+    }
+}
@@ -5,6 +5,7 @@ import com.example.orderservice.controller.item.ItemController;
 import com.example.orderservice.dto.item.ItemCreateDto;
 import com.example.orderservice.dto.item.ItemResponseDto;
 import com.example.orderservice.dto.item.ItemUpdateDto;
+import com.example.orderservice.dto.page.CursorPageDto;
 import com.example.orderservice.exception.ErrorMessage;
 import com.example.orderservice.exception.GlobalExceptionHandler;
 import com.example.orderservice.exception.response.ExceptionResponseService;
@@ -20,6 +21,7 @@ import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
 import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
 import org.springframework.context.annotation.Import;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.MediaType;
 import org.springframework.test.context.bean.override.mockito.MockitoBean;
 import org.springframework.test.web.servlet.MockMvc;
@@ -28,11 +30,14 @@ import java.math.BigDecimal;
 import java.util.List;
 
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.delete;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.put;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
@@ -208,5 +213,42 @@ class ItemControllerTests {
                 .andExpect(status().isOk())
                 .andExpect(jsonPath("$.length()").value(0));
     }
-}
 
+    @Test
+    @DisplayName("GET /item/all -> returns catalog version as ETag")
+    void testGetAllItems_ShouldReturnETag() throws Exception {
+        when(itemServiceImpl.getCatalogVersion()).thenReturn("1-1-0");
+        when(itemServiceImpl.getAllItems()).thenReturn(List.of(responseDto));
+
+        mockMvc.perform(get("/item/all"))
+                .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.ETAG, "\"1-1-0\""))
+                .andExpect(jsonPath("$.length()").value(1));
+    }
+
+    @Test
+    @DisplayName("GET /item/all -> not modified for a matching If-None-Match")
+    void testGetAllItems_MatchingETag_ShouldReturnNotModified() throws Exception {
+        when(itemServiceImpl.getCatalogVersion()).thenReturn("1-1-0");
+
+        mockMvc.perform(get("/item/all").header(HttpHeaders.IF_NONE_MATCH, "\"1-1-0\""))
+                .andExpect(status().isNotModified());
+        verify(itemServiceImpl, never()).getAllItems();
+    }
+
+    @Test
+    @DisplayName("GET /item/page -> returns page with cursor")
+    void testGetItemsPage() throws Exception {
+        when(itemServiceImpl.getItemsPage(5L, 1)).thenReturn(CursorPageDto.<ItemResponseDto>builder()
+                .content(List.of(responseDto))
+                .nextCursor(ID)
+                .hasNext(true)
+                .build());
+
+        mockMvc.perform(get("/item/page").param("cursor", "5").param("size", "1"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.content.length()").value(1))
+                .andExpect(jsonPath("$.nextCursor").value(ID))
+                .andExpect(jsonPath("$.hasNext").value(true));
+    }
+}
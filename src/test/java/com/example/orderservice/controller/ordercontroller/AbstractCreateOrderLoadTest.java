@@ -0,0 +1,111 @@
+package com.example.orderservice.controller.ordercontroller;
+
+import com.example.orderservice.dto.order.OrderCreateDto;
+import com.example.orderservice.dto.orderItem.OrderItemCreateDto;
+import com.example.orderservice.model.Item;
+import com.example.orderservice.model.OrderStatus;
+import com.example.orderservice.repository.item.ItemRepository;
+import com.example.orderservice.util.AbstractContainerBaseTest;
+import com.example.orderservice.util.InFlightRequests;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.tomakehurst.wiremock.WireMockServer;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.wiremock.spring.ConfigureWireMock;
+import org.wiremock.spring.EnableWireMock;
+import org.wiremock.spring.InjectWireMock;
+
+import java.math.BigDecimal;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static com.github.tomakehurst.wiremock.client.WireMock.aResponse;
+import static com.github.tomakehurst.wiremock.client.WireMock.get;
+import static com.github.tomakehurst.wiremock.client.WireMock.urlPathMatching;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * Fires a burst of createOrder requests against a slow user service and reports
+ * how many of them were inside OrderServiceImpl.createOrder at the same time.
+ */
+@SpringBootTest(
+        webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT,
+        properties = {
+                "server.tomcat.threads.max=" + AbstractCreateOrderLoadTest.TOMCAT_MAX_THREADS,
+                "spring.datasource.hikari.maximum-pool-size=60",
+                "resilience4j.bulkhead.instances.user-service.max-concurrent-calls=100"
+        }
+)
+@EnableWireMock({
+        @ConfigureWireMock(name = "user-service", port = 8080)
+})
+abstract class AbstractCreateOrderLoadTest extends AbstractContainerBaseTest {
+
+    protected static final int TOMCAT_MAX_THREADS = 10;
+    protected static final int CONCURRENT_REQUESTS = 40;
+
+    private static final int USER_SERVICE_DELAY_MS = 300;
+    private static final AtomicLong USER_SEQUENCE = new AtomicLong(System.currentTimeMillis());
+
+    @LocalServerPort
+    private int port;
+
+    @InjectWireMock("user-service")
+    private WireMockServer wireMockServer;
+
+    @Autowired
+    private ItemRepository itemRepository;
+
+    @Autowired
+    private InFlightRequests createOrderInFlight;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    protected int peakConcurrentCreateOrders() throws Exception {
+        wireMockServer.stubFor(get(urlPathMatching("/user/\\d+"))
+                .willReturn(aResponse().withStatus(200).withFixedDelay(USER_SERVICE_DELAY_MS)));
+        final Item item = itemRepository.save(Item.builder()
+                .name("Load " + UUID.randomUUID().toString().substring(0, 8))
+                .price(new BigDecimal("5.00"))
+                .build());
+        createOrderInFlight.resetPeak();
+
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            final HttpClient http = HttpClient.newBuilder()
+                    .version(HttpClient.Version.HTTP_1_1)
+                    .executor(executor)
+                    .build();
+            final List<CompletableFuture<HttpResponse<String>>> responses = new ArrayList<>();
+            for (int i = 0; i < CONCURRENT_REQUESTS; i++) {
+                responses.add(http.sendAsync(createOrderRequest(item.getId()), HttpResponse.BodyHandlers.ofString()));
+            }
+            for (final CompletableFuture<HttpResponse<String>> response : responses) {
+                assertEquals(201, response.get().statusCode(), response.get().body());
+            }
+        }
+        return createOrderInFlight.peak();
+    }
+
+    private HttpRequest createOrderRequest(final Long itemId) throws Exception {
+        final OrderCreateDto createDto = OrderCreateDto.builder()
+                .userId(USER_SEQUENCE.incrementAndGet())
+                .status(OrderStatus.CREATED)
+                .orderItems(List.of(OrderItemCreateDto.builder().itemId(itemId).quantity(1L).build()))
+                .build();
+        return HttpRequest.newBuilder(URI.create("http://localhost:" + port + "/order/create"))
+                .header("Content-Type", "application/json")
+                .POST(HttpRequest.BodyPublishers.ofString(objectMapper.writeValueAsString(createDto)))
+                .build();
+    }
+}
@@ -0,0 +1,17 @@
+package com.example.orderservice.controller.ordercontroller;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.test.context.TestPropertySource;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@TestPropertySource(properties = "spring.threads.virtual.enabled=false")
+class CreateOrderPlatformThreadsLoadTests extends AbstractCreateOrderLoadTest {
+
+    @Test
+    void createOrder_Burst_ShouldBeCappedByTomcatThreadPool() throws Exception {
+        final int peak = peakConcurrentCreateOrders();
+
+        assertThat(peak).isLessThanOrEqualTo(TOMCAT_MAX_THREADS);
+    }
+}
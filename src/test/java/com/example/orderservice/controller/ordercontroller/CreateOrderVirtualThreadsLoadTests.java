@@ -0,0 +1,17 @@
+package com.example.orderservice.controller.ordercontroller;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.test.context.TestPropertySource;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@TestPropertySource(properties = "spring.threads.virtual.enabled=true")
+class CreateOrderVirtualThreadsLoadTests extends AbstractCreateOrderLoadTest {
+
+    @Test
+    void createOrder_Burst_ShouldExceedPlatformThreadPoolSize() throws Exception {
+        final int peak = peakConcurrentCreateOrders();
+
+        assertThat(peak).isGreaterThan(TOMCAT_MAX_THREADS);
+    }
+}
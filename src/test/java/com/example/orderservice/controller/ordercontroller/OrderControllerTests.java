@@ -10,8 +10,10 @@ import com.example.orderservice.dto.orderItem.OrderItemCreateDto;
 import com.example.orderservice.dto.orderItem.OrderItemResponseDto;
 import com.example.orderservice.dto.orderItem.OrderItemUpdateDto;
 import com.example.orderservice.exception.GlobalExceptionHandler;
+import com.example.orderservice.exception.idempotency.IdempotencyKeyReusedException;
 import com.example.orderservice.model.OrderStatus;
 import com.example.orderservice.exception.response.ExceptionResponseService;
+import com.example.orderservice.service.idempotency.IdempotencyService;
 import com.example.orderservice.service.message.MessageService;
 import com.example.orderservice.service.order.OrderServiceImpl;
 import com.fasterxml.jackson.databind.ObjectMapper;
@@ -28,19 +30,28 @@ import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
 import org.springframework.test.context.bean.override.mockito.MockitoBean;
 import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
 
 import java.math.BigDecimal;
 import java.time.LocalDateTime;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.stream.Stream;
 
+import static org.hamcrest.Matchers.containsString;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.delete;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.put;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
 @WebMvcTest(OrderController.class)
@@ -54,6 +65,9 @@ public class OrderControllerTests {
     @MockitoBean
     private OrderServiceImpl orderServiceImpl;
 
+    @MockitoBean
+    private IdempotencyService idempotencyService;
+
     private final ObjectMapper objectMapper = new ObjectMapper()
             .registerModule(new JavaTimeModule())
             .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS);
@@ -149,6 +163,33 @@ public class OrderControllerTests {
                 .andExpect(jsonPath("$.orderItems.length()").value(2));
     }
 
+    @Test
+    void shouldCreateOrderThroughIdempotencyServiceWhenKeyPresent() throws Exception {
+        when(idempotencyService.execute(eq("order-create"), eq("key-1"), any(), eq(OrderResponseDto.class), any()))
+                .thenReturn(responseDto);
+
+        mockMvc.perform(post("/order/create")
+                        .header("Idempotency-Key", "key-1")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(createDto)))
+                .andExpect(status().isCreated())
+                .andExpect(jsonPath("$.id").value(responseDto.getId()));
+
+        verify(orderServiceImpl, never()).createOrder(any());
+    }
+
+    @Test
+    void shouldRejectReusedIdempotencyKey() throws Exception {
+        when(idempotencyService.execute(eq("order-create"), eq("key-1"), any(), eq(OrderResponseDto.class), any()))
+                .thenThrow(new IdempotencyKeyReusedException("key-1"));
+
+        mockMvc.perform(post("/order/create")
+                        .header("Idempotency-Key", "key-1")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(createDto)))
+                .andExpect(status().isUnprocessableEntity());
+    }
+
     @Test
     void shouldUpdateOrder() throws Exception {
         when(orderServiceImpl.updateOrder(any()))
@@ -268,6 +309,29 @@ public class OrderControllerTests {
                 .andExpect(jsonPath("$.orderItems.length()").value(3));
     }
 
+    @Test
+    @DisplayName("Stream Orders By User - Writes One Json Document Per Line")
+    void testStreamOrdersByUserId() throws Exception {
+        final OrderResponseDto secondOrder = OrderResponseDto.builder()
+                .id(STANDARD_ID + 1L)
+                .userId(USER_ID)
+                .status(OrderStatus.PAID)
+                .orderItems(List.of())
+                .build();
+
+        when(orderServiceImpl.streamOrdersByUserId(USER_ID)).thenReturn(Stream.of(responseDto, secondOrder));
+
+        final MvcResult result = mockMvc.perform(get("/order/user/" + USER_ID + "/stream"))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        mockMvc.perform(asyncDispatch(result))
+                .andExpect(status().isOk())
+                .andExpect(content().contentType(MediaType.APPLICATION_NDJSON))
+                .andExpect(content().string(containsString("\"id\":" + STANDARD_ID + ",")))
+                .andExpect(content().string(containsString("\"status\":\"PAID\"")));
+    }
+
     @Test
     @DisplayName("Delete Order - Not Found")
     void testDeleteOrderNotFound() throws Exception {
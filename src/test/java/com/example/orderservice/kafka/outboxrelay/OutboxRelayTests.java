@@ -0,0 +1,90 @@
+package com.example.orderservice.kafka.outboxrelay;
+
+import com.example.orderservice.kafka.OutboxRelay;
+import com.example.orderservice.model.OutboxEvent;
+import com.example.orderservice.repository.outbox.OutboxEventRepository;
+import com.example.orderservice.util.AbstractContainerBaseTest;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.kafka.core.KafkaTemplate;
+import org.springframework.kafka.support.SendResult;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@SpringBootTest(properties = "order.outbox.poll-interval-ms=3600000")
+class OutboxRelayTests extends AbstractContainerBaseTest {
+
+    private static final String TOPIC = "create-order";
+    private static final Long DELIVERED_ORDER_ID = 1L;
+    private static final Long FAILING_ORDER_ID = 2L;
+
+    @Autowired
+    private OutboxRelay outboxRelay;
+
+    @Autowired
+    private OutboxEventRepository outboxEventRepository;
+
+    @MockitoBean
+    private KafkaTemplate<Long, String> kafka;
+
+    @BeforeEach
+    void setUp() {
+        outboxEventRepository.deleteAll();
+    }
+
+    @Test
+    void relayPending_AllSendsAcknowledged_ShouldDeleteEvents() {
+        when(kafka.send(eq(TOPIC), eq(DELIVERED_ORDER_ID), anyString()))
+                .thenReturn(CompletableFuture.completedFuture(null));
+        outboxEventRepository.saveAll(List.of(
+                createEvent(DELIVERED_ORDER_ID, "{\"status\":\"first\"}"),
+                createEvent(DELIVERED_ORDER_ID, "{\"status\":\"second\"}")
+        ));
+
+        outboxRelay.relayPending();
+
+        verify(kafka).send(TOPIC, DELIVERED_ORDER_ID, "{\"status\":\"first\"}");
+        verify(kafka).send(TOPIC, DELIVERED_ORDER_ID, "{\"status\":\"second\"}");
+        assertThat(outboxEventRepository.count()).isZero();
+    }
+
+    @Test
+    void relayPending_SendFails_ShouldKeepEventsOfThatOrderOnly() {
+        final CompletableFuture<SendResult<Long, String>> failed =
+                CompletableFuture.failedFuture(new IllegalStateException("broker unavailable"));
+        when(kafka.send(eq(TOPIC), eq(FAILING_ORDER_ID), anyString())).thenReturn(failed);
+        when(kafka.send(eq(TOPIC), eq(DELIVERED_ORDER_ID), anyString()))
+                .thenReturn(CompletableFuture.completedFuture(null));
+        final List<OutboxEvent> saved = outboxEventRepository.saveAll(List.of(
+                createEvent(FAILING_ORDER_ID, "{}"),
+                createEvent(DELIVERED_ORDER_ID, "{}"),
+                createEvent(FAILING_ORDER_ID, "{}")
+        ));
+
+        outboxRelay.relayPending();
+
+        assertThat(outboxEventRepository.findAll())
+                .extracting(OutboxEvent::getId)
+                .containsExactlyInAnyOrder(saved.get(0).getId(), saved.get(2).getId());
+    }
+
+    private OutboxEvent createEvent(final Long orderId, final String payload) {
+        return OutboxEvent.builder()
+                .topic(TOPIC)
+                .aggregateId(orderId)
+                .payload(payload)
+                .createdAt(LocalDateTime.now())
+                .build();
+    }
+}
@@ -0,0 +1,58 @@
+package com.example.orderservice.model;
+
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class MoneyTests {
+
+    @Test
+    void of_TwoDecimalAmount_ShouldRoundTripThroughMinorUnits() {
+        final Money money = Money.of(new BigDecimal("19.99"));
+
+        assertEquals(1999L, money.minorUnits());
+        assertEquals(new BigDecimal("19.99"), money.toBigDecimal());
+    }
+
+    @Test
+    void of_AmountWithLowerScale_ShouldBeNormalizedToCents() {
+        assertEquals(new BigDecimal("10.00"), Money.of(BigDecimal.TEN).toBigDecimal());
+    }
+
+    @Test
+    void of_FractionOfACent_ShouldThrowException() {
+        assertThrows(ArithmeticException.class, () -> Money.of(new BigDecimal("0.001")));
+    }
+
+    @Test
+    void timesAndPlus_ShouldMatchBigDecimalArithmetic() {
+        final Money total = Money.of(new BigDecimal("10.25")).times(3)
+                .plus(Money.of(new BigDecimal("0.05")));
+
+        assertEquals(new BigDecimal("30.80"), total.toBigDecimal());
+    }
+
+    @Test
+    void times_Overflow_ShouldThrowException() {
+        final Money money = new Money(Long.MAX_VALUE / 2 + 1);
+
+        assertThrows(ArithmeticException.class, () -> money.times(2));
+    }
+
+    @Test
+    void requireStorable_LargestDecimal10_2Amount_ShouldPass() {
+        final Money money = Money.of(new BigDecimal("99999999.99"));
+
+        assertEquals(money, money.requireStorable());
+    }
+
+    @Test
+    void requireStorable_AmountPastDecimal10_2_ShouldThrowException() {
+        final Money money = Money.of(new BigDecimal("99999999.99")).plus(new Money(1));
+
+        assertThrows(ArithmeticException.class, money::requireStorable);
+    }
+}
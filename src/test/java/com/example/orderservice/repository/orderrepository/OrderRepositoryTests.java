@@ -0,0 +1,204 @@
+package com.example.orderservice.repository.orderrepository;
+
+import com.example.orderservice.mapper.order.OrderMapper;
+import com.example.orderservice.model.Item;
+import com.example.orderservice.model.Order;
+import com.example.orderservice.model.OrderItem;
+import com.example.orderservice.model.OrderStatus;
+import com.example.orderservice.repository.item.ItemRepository;
+import com.example.orderservice.repository.order.OrderRepository;
+import com.example.orderservice.util.AbstractContainerBaseTest;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import jakarta.persistence.PersistenceContext;
+import org.hibernate.Session;
+import org.hibernate.SessionEventListener;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+@SpringBootTest
+class OrderRepositoryTests extends AbstractContainerBaseTest {
+
+    private static final AtomicLong USER_SEQUENCE = new AtomicLong(System.currentTimeMillis());
+
+    @Autowired
+    private OrderRepository orderRepository;
+
+    @Autowired
+    private ItemRepository itemRepository;
+
+    @Autowired
+    private OrderMapper orderMapper;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    private Statistics statistics;
+
+    private List<Item> items;
+
+    @BeforeEach
+    void setUp() {
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        items = itemRepository.saveAll(List.of(
+                createItem("Repo item A", "10.00"),
+                createItem("Repo item B", "20.00"),
+                createItem("Repo item C", "30.00")
+        ));
+    }
+
+    @Test
+    void findOrdersByUserId_ShouldIssueConstantNumberOfStatements() {
+        final Long fewOrdersUser = createOrdersForNewUser(1).getFirst().getUserId();
+        final Long manyOrdersUser = createOrdersForNewUser(25).getFirst().getUserId();
+
+        final long fewOrdersStatements = countStatements(orderRepository::findOrdersByUserId, fewOrdersUser);
+        final long manyOrdersStatements = countStatements(orderRepository::findOrdersByUserId, manyOrdersUser);
+
+        assertEquals(fewOrdersStatements, manyOrdersStatements);
+    }
+
+    @Test
+    void findAllWithOrderItemsByIdIn_ShouldIssueConstantNumberOfStatements() {
+        final List<Long> fewOrderIds = idsOf(createOrdersForNewUser(1));
+        final List<Long> manyOrderIds = idsOf(createOrdersForNewUser(25));
+
+        final long fewOrdersStatements = countStatements(orderRepository::findAllWithOrderItemsByIdIn, fewOrderIds);
+        final long manyOrdersStatements = countStatements(orderRepository::findAllWithOrderItemsByIdIn, manyOrderIds);
+
+        assertEquals(fewOrdersStatements, manyOrdersStatements);
+    }
+
+    @Test
+    void findWithOrderItemsById_ShouldLoadItemsInSingleStatement() {
+        final Long orderId = createOrdersForNewUser(1).getFirst().getId();
+
+        final long statements = countStatements(
+                id -> orderRepository.findWithOrderItemsById(id).stream().toList(), orderId);
+
+        assertEquals(1, statements);
+    }
+
+    /**
+     * With pooled sequence ids (allocationSize 50) and a JDBC batch size of 50,
+     * saving an order with N lines prepares one insert per table and sends
+     * 1 + ceil(N / 50) batches. The ids come from the in-memory pool, fetched
+     * on a separate connection about once per 50 rows. IDENTITY ids would have
+     * to be read back after each insert, which disables insert batching: N + 1
+     * statements are prepared and executed one by one, and no batches are sent.
+     */
+    @Test
+    void save_OrderWithOneBatchOfLines_ShouldPrepareOneInsertPerTable() {
+        final int lineCount = 50;
+
+        final long batches = saveCountingBatches(orderWithLines(lineCount));
+
+        assertEquals(lineCount + 1, statistics.getEntityInsertCount());
+        assertEquals(2, statistics.getPrepareStatementCount());
+        assertEquals(2, batches);
+    }
+
+    @Test
+    void save_OrderWithSeveralBatchesOfLines_ShouldSendOneBatchPerFiftyLines() {
+        final int lineCount = 120;
+
+        final long batches = saveCountingBatches(orderWithLines(lineCount));
+
+        assertEquals(lineCount + 1, statistics.getEntityInsertCount());
+        assertEquals(1 + 3, batches);
+    }
+
+    private Order orderWithLines(final int lineCount) {
+        final Order order = Order.builder()
+                .userId(USER_SEQUENCE.incrementAndGet())
+                .status(OrderStatus.CREATED)
+                .orderDate(LocalDateTime.now())
+                .orderTotal(BigDecimal.ZERO)
+                .build();
+        for (int i = 0; i < lineCount; i++) {
+            order.getOrderItems().add(OrderItem.builder()
+                    .order(order)
+                    .item(items.get(i % items.size()))
+                    .quantity(1L)
+                    .build());
+        }
+        return order;
+    }
+
+    private long saveCountingBatches(final Order order) {
+        final AtomicLong batches = new AtomicLong();
+        statistics.clear();
+        transactionTemplate.executeWithoutResult(status -> {
+            entityManager.unwrap(Session.class).addEventListeners(new SessionEventListener() {
+                @Override
+                public void jdbcExecuteBatchStart() {
+                    batches.incrementAndGet();
+                }
+            });
+            orderRepository.save(order);
+        });
+        return batches.get();
+    }
+
+    private <T> long countStatements(final Function<T, List<Order>> loader, final T argument) {
+        statistics.clear();
+        transactionTemplate.executeWithoutResult(status ->
+                orderMapper.toResponseDtoList(loader.apply(argument)));
+        return statistics.getPrepareStatementCount();
+    }
+
+    private List<Order> createOrdersForNewUser(final int orderCount) {
+        final Long userId = USER_SEQUENCE.incrementAndGet();
+        final List<Order> orders = new ArrayList<>();
+        for (int i = 0; i < orderCount; i++) {
+            final Order order = Order.builder()
+                    .userId(userId)
+                    .status(OrderStatus.CREATED)
+                    .orderDate(LocalDateTime.now())
+                    .orderTotal(BigDecimal.valueOf(60))
+                    .build();
+            for (final Item item : items) {
+                order.getOrderItems().add(OrderItem.builder()
+                        .order(order)
+                        .item(item)
+                        .quantity(1L)
+                        .build());
+            }
+            orders.add(order);
+        }
+        return orderRepository.saveAll(orders);
+    }
+
+    private static List<Long> idsOf(final List<Order> orders) {
+        return orders.stream()
+                .map(Order::getId)
+                .toList();
+    }
+
+    private static Item createItem(final String name, final String price) {
+        return Item.builder()
+                .name(name + " " + USER_SEQUENCE.incrementAndGet())
+                .price(new BigDecimal(price))
+                .build();
+    }
+}
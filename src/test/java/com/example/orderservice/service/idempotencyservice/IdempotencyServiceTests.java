@@ -0,0 +1,135 @@
+package com.example.orderservice.service.idempotencyservice;
+
+import com.example.orderservice.cache.idempotency.LocalIdempotencyStore;
+import com.example.orderservice.exception.idempotency.IdempotencyKeyReusedException;
+import com.example.orderservice.exception.idempotency.IdempotentRequestInProgressException;
+import com.example.orderservice.service.idempotency.IdempotencyService;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class IdempotencyServiceTests {
+
+    private static final String OPERATION = "test-operation";
+
+    private IdempotencyService idempotencyService;
+    private AtomicInteger executions;
+
+    @BeforeEach
+    void setUp() {
+        idempotencyService = new IdempotencyService(
+                new LocalIdempotencyStore(),
+                new ObjectMapper(),
+                new SimpleMeterRegistry(),
+                Duration.ofMinutes(1),
+                Duration.ofSeconds(30),
+                Duration.ofMillis(500),
+                Duration.ofMillis(10));
+        executions = new AtomicInteger();
+    }
+
+    @Test
+    void execute_SameKeyAndRequest_ShouldReplayStoredResponse() {
+        final String first = idempotencyService.execute(OPERATION, "key", Map.of("a", 1), String.class, this::action);
+        final String second = idempotencyService.execute(OPERATION, "key", Map.of("a", 1), String.class, this::action);
+
+        assertEquals("result-1", first);
+        assertEquals(first, second);
+        assertEquals(1, executions.get());
+    }
+
+    @Test
+    void execute_SameKeyDifferentRequest_ShouldThrowKeyReused() {
+        idempotencyService.execute(OPERATION, "key", Map.of("a", 1), String.class, this::action);
+
+        assertThrows(IdempotencyKeyReusedException.class,
+                () -> idempotencyService.execute(OPERATION, "key", Map.of("a", 2), String.class, this::action));
+        assertEquals(1, executions.get());
+    }
+
+    @Test
+    void execute_FailedAction_ShouldReleaseKey() {
+        assertThrows(IllegalStateException.class,
+                () -> idempotencyService.execute(OPERATION, "key", Map.of("a", 1), String.class, () -> {
+                    throw new IllegalStateException("boom");
+                }));
+
+        final String retried = idempotencyService.execute(OPERATION, "key", Map.of("a", 1), String.class, this::action);
+
+        assertEquals("result-1", retried);
+    }
+
+    @Test
+    void execute_DuplicateWhileFirstRunning_ShouldWaitForFirstResult() throws Exception {
+        final CountDownLatch started = new CountDownLatch(1);
+        final CountDownLatch release = new CountDownLatch(1);
+
+        final CompletableFuture<String> first = CompletableFuture.supplyAsync(() ->
+                idempotencyService.execute(OPERATION, "key", Map.of("a", 1), String.class, () -> {
+                    started.countDown();
+                    awaitQuietly(release);
+                    return action();
+                }));
+        assertTrue(started.await(5, TimeUnit.SECONDS));
+
+        final CompletableFuture<String> duplicate = CompletableFuture.supplyAsync(() ->
+                idempotencyService.execute(OPERATION, "key", Map.of("a", 1), String.class, this::action));
+        release.countDown();
+
+        assertEquals("result-1", first.get(5, TimeUnit.SECONDS));
+        assertEquals("result-1", duplicate.get(5, TimeUnit.SECONDS));
+        assertEquals(1, executions.get());
+    }
+
+    @Test
+    void execute_FirstRunningPastWaitTimeout_ShouldThrowInProgress() throws Exception {
+        final CountDownLatch started = new CountDownLatch(1);
+        final CountDownLatch release = new CountDownLatch(1);
+
+        final CompletableFuture<String> first = CompletableFuture.supplyAsync(() ->
+                idempotencyService.execute(OPERATION, "key", Map.of("a", 1), String.class, () -> {
+                    started.countDown();
+                    awaitQuietly(release);
+                    return action();
+                }));
+        assertTrue(started.await(5, TimeUnit.SECONDS));
+
+        try {
+            assertThrows(IdempotentRequestInProgressException.class,
+                    () -> idempotencyService.execute(OPERATION, "key", Map.of("a", 1), String.class, this::action));
+        } finally {
+            release.countDown();
+        }
+        assertEquals("result-1", first.get(5, TimeUnit.SECONDS));
+    }
+
+    @Test
+    void execute_BlankKey_ShouldThrowIllegalArgument() {
+        assertThrows(IllegalArgumentException.class,
+                () -> idempotencyService.execute(OPERATION, " ", Map.of("a", 1), String.class, this::action));
+    }
+
+    private String action() {
+        return "result-" + executions.incrementAndGet();
+    }
+
+    private static void awaitQuietly(final CountDownLatch latch) {
+        try {
+            latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
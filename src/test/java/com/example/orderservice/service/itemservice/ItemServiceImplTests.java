@@ -1,8 +1,10 @@
 package com.example.orderservice.service.itemservice;
 
+import com.example.orderservice.cache.item.ItemCatalog;
 import com.example.orderservice.dto.item.ItemCreateDto;
 import com.example.orderservice.dto.item.ItemResponseDto;
 import com.example.orderservice.dto.item.ItemUpdateDto;
+import com.example.orderservice.dto.page.CursorPageDto;
 import com.example.orderservice.exception.item.ItemNotFoundException;
 import com.example.orderservice.mapper.item.ItemMapper;
 import com.example.orderservice.model.Item;
@@ -11,17 +13,21 @@ import com.example.orderservice.service.item.ItemServiceImpl;
 import com.example.orderservice.util.AbstractContainerBaseTest;
 import com.example.orderservice.validators.Item.ItemValidator;
 import jakarta.validation.ValidationException;
+import org.hibernate.exception.ConstraintViolationException;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.ArgumentCaptor;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.data.domain.Limit;
 import org.springframework.test.context.bean.override.mockito.MockitoBean;
 import org.springframework.test.context.junit.jupiter.SpringExtension;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.math.BigDecimal;
+import java.sql.SQLException;
 import java.util.List;
 import java.util.Optional;
 import java.util.stream.Collectors;
@@ -30,6 +36,7 @@ import static org.assertj.core.api.Assertions.assertThat;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.ArgumentMatchers.anyList;
 import static org.mockito.Mockito.doNothing;
 import static org.mockito.Mockito.doThrow;
@@ -51,6 +58,9 @@ public class ItemServiceImplTests extends AbstractContainerBaseTest {
     @Autowired
     private ItemServiceImpl itemServiceImpl;
 
+    @Autowired
+    private ItemCatalog itemCatalog;
+
     protected static final Long ITEM_ID = 1L;
     protected static final Long NON_EXISTENT_ITEM_ID = 999L;
     protected static final String ITEM_NAME = "Test Item";
@@ -130,6 +140,55 @@ public class ItemServiceImplTests extends AbstractContainerBaseTest {
         assertEquals(ITEM_PRICE, savedItem.getPrice());
     }
 
+    @Test
+    void createItem_Committed_ShouldBeServedFromCatalog() {
+        // Given
+        final ItemCreateDto createDto = createSampleItemCreateDto();
+
+        // When
+        itemServiceImpl.createItem(createDto);
+        final Optional<Item> cached = itemCatalog.findItem(ITEM_ID);
+
+        // Then
+        assertTrue(cached.isPresent());
+        assertEquals(ITEM_NAME, cached.get().getName());
+        assertEquals(ITEM_PRICE, cached.get().getPrice());
+        verify(itemRepository, never()).findExistingItems(anyList());
+    }
+
+    @Test
+    void getAllItems_CatalogChanged_ShouldServeFromCatalogWithNewVersion() {
+        // Given
+        final String versionBefore = itemServiceImpl.getCatalogVersion();
+        final Item item = Item.builder().id(4242L).name("Catalog item").price(BigDecimal.ONE).version(0L).build();
+
+        // When
+        itemCatalog.put(item);
+        final List<ItemResponseDto> result = itemServiceImpl.getAllItems();
+
+        // Then
+        assertThat(result).extracting(ItemResponseDto::getId).contains(item.getId());
+        assertThat(itemServiceImpl.getCatalogVersion()).isNotEqualTo(versionBefore);
+        verify(itemRepository, never()).findAll();
+    }
+
+    @Test
+    void getItemsPage_MoreItemsThanPageSize_ShouldReturnNextCursor() {
+        // Given
+        when(itemRepository.findItemsAfter(10L, Limit.of(3))).thenReturn(List.of(
+                ItemResponseDto.builder().id(11L).build(),
+                ItemResponseDto.builder().id(12L).build(),
+                ItemResponseDto.builder().id(13L).build()));
+
+        // When
+        final CursorPageDto<ItemResponseDto> page = itemServiceImpl.getItemsPage(10L, 2);
+
+        // Then
+        assertEquals(2, page.getContent().size());
+        assertEquals(12L, page.getNextCursor());
+        assertTrue(page.isHasNext());
+    }
+
     @Test
     void getAllItemsByIds_ValidIds_ShouldReturnItems() {
         // Given
@@ -155,7 +214,7 @@ public class ItemServiceImplTests extends AbstractContainerBaseTest {
     void getItemById_ExistingId_ShouldReturnItem() {
         // Given
         final Item expectedItem = createSampleItemEntity();
-        when(itemValidator.checkItemToExistence(ITEM_ID)).thenReturn(expectedItem);
+        when(itemValidator.getExistingItem(ITEM_ID)).thenReturn(expectedItem);
 
         // When
         final ItemResponseDto result = itemServiceImpl.getItemById(ITEM_ID);
@@ -171,7 +230,7 @@ public class ItemServiceImplTests extends AbstractContainerBaseTest {
     void getItemById_NonExistingId_ShouldThrowException() {
         // Given
         final Long invalidId = 999L;
-        when(itemValidator.checkItemToExistence(invalidId))
+        when(itemValidator.getExistingItem(invalidId))
                 .thenThrow(new ItemNotFoundException(invalidId));
 
         // When & Then
@@ -251,7 +310,7 @@ public class ItemServiceImplTests extends AbstractContainerBaseTest {
         // Then
         assertNotNull(result);
         assertEquals(ITEM_ID, result.getId());
-        verify(itemRepository).delete(existingItem);
+        verify(itemRepository).bulkDeleteById(ITEM_ID);
     }
 
     @Test
@@ -265,7 +324,7 @@ public class ItemServiceImplTests extends AbstractContainerBaseTest {
         // When & Then
         assertThrows(ItemNotFoundException.class, () ->
                 itemServiceImpl.deleteItem(invalidId));
-        verify(itemRepository, never()).delete(any());
+        verify(itemRepository, never()).bulkDeleteById(any());
     }
 
     @Test
@@ -284,6 +343,33 @@ public class ItemServiceImplTests extends AbstractContainerBaseTest {
                 itemServiceImpl.createItem(invalidDto));
     }
 
+    @Test
+    void createItem_NameTakenConcurrently_ShouldThrowSameValidationError() {
+        // Given
+        final ItemCreateDto createDto = createSampleItemCreateDto();
+        doThrow(constraintViolation("items.uk_item_name"))
+                .when(itemRepository).flush();
+
+        // When
+        final ValidationException exception = assertThrows(ValidationException.class, () ->
+                itemServiceImpl.createItem(createDto));
+
+        // Then
+        assertEquals(ItemValidator.nameTaken(ITEM_NAME).getMessage(), exception.getMessage());
+    }
+
+    @Test
+    void createItem_OtherConstraintViolated_ShouldNotReportNameTaken() {
+        // Given
+        final ItemCreateDto createDto = createSampleItemCreateDto();
+        doThrow(constraintViolation(null))
+                .when(itemRepository).flush();
+
+        // When & Then
+        assertThrows(DataIntegrityViolationException.class, () ->
+                itemServiceImpl.createItem(createDto));
+    }
+
     @Test
     void updateItem_InvalidInput_ShouldCallValidator() {
         // Given
@@ -302,6 +388,11 @@ public class ItemServiceImplTests extends AbstractContainerBaseTest {
     }
 
 
+    private static DataIntegrityViolationException constraintViolation(final String constraintName) {
+        return new DataIntegrityViolationException("could not execute statement",
+                new ConstraintViolationException("could not execute statement", new SQLException(), constraintName));
+    }
+
     private Item createSampleItemEntity() {
         final long id = 1L;
         return Item.builder()
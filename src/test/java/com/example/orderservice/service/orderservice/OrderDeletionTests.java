@@ -0,0 +1,90 @@
+package com.example.orderservice.service.orderservice;
+
+import com.example.orderservice.model.Item;
+import com.example.orderservice.model.Order;
+import com.example.orderservice.service.item.ItemService;
+import com.example.orderservice.service.order.OrderPurgeService;
+import com.example.orderservice.service.order.OrderService;
+import com.example.orderservice.util.AbstractOrderPersistenceTest;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+
+@SpringBootTest
+class OrderDeletionTests extends AbstractOrderPersistenceTest {
+
+    private static final int LINE_COUNT = 2000;
+
+    @Autowired
+    private OrderService orderService;
+
+    @Autowired
+    private ItemService itemService;
+
+    @Autowired
+    private OrderPurgeService orderPurgeService;
+
+    private Item item;
+
+    @BeforeEach
+    void setUp() {
+        item = createItems("Deletion item", 1).getFirst();
+    }
+
+    @Test
+    void deleteOrder_OrderWithThousandsOfLines_ShouldUseConstantNumberOfStatements() {
+        final Long orderId = createOrderWithLines(LINE_COUNT).getId();
+
+        statistics.clear();
+        orderService.deleteOrder(orderId);
+
+        assertThat(statistics.getPrepareStatementCount()).isLessThanOrEqualTo(3);
+        assertThat(statistics.getEntityDeleteCount()).isZero();
+        assertFalse(orderRepository.existsById(orderId));
+    }
+
+    @Test
+    void deleteItem_ItemOnThousandsOfLines_ShouldUseConstantNumberOfStatements() {
+        final Item kept = createItems("Kept item", 1).getFirst();
+        final List<Item> lineItems = new ArrayList<>(Collections.nCopies(LINE_COUNT, item));
+        lineItems.add(kept);
+        final Order created = createOrderWithLines(lineItems);
+
+        statistics.clear();
+        itemService.deleteItem(item.getId());
+
+        assertThat(statistics.getPrepareStatementCount()).isLessThanOrEqualTo(5);
+        assertThat(statistics.getEntityDeleteCount()).isZero();
+        assertFalse(itemRepository.existsById(item.getId()));
+        assertThat(orderRepository.findWithOrderItemsById(created.getId())).hasValueSatisfying(order -> {
+            assertThat(order.getOrderItems()).extracting(line -> line.getItem().getId()).containsExactly(kept.getId());
+            assertEquals(0, kept.getPrice().compareTo(order.getOrderTotal()));
+            assertThat(order.getVersion()).isGreaterThan(created.getVersion());
+        });
+    }
+
+    @Test
+    void purgeDeletedOrders_SoftDeletedOrder_ShouldRemoveOrderAndLines() {
+        final Long orderId = createOrderWithLines(LINE_COUNT).getId();
+        transactionTemplate.executeWithoutResult(status -> orderRepository.markDeleted(orderId));
+        assertFalse(orderRepository.existsById(orderId));
+        assertThat(orderRepository.findSoftDeletedIds(Integer.MAX_VALUE)).contains(orderId);
+
+        orderPurgeService.purgeDeletedOrders();
+
+        assertThat(orderRepository.findSoftDeletedIds(Integer.MAX_VALUE)).doesNotContain(orderId);
+    }
+
+    private Order createOrderWithLines(final int lineCount) {
+        return createOrderWithLines(Collections.nCopies(lineCount, item));
+    }
+}
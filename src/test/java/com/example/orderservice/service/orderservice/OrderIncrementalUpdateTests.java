@@ -0,0 +1,114 @@
+package com.example.orderservice.service.orderservice;
+
+import com.example.orderservice.dto.item.ItemUpdateDto;
+import com.example.orderservice.dto.order.OrderResponseDto;
+import com.example.orderservice.dto.order.OrderUpdateDto;
+import com.example.orderservice.dto.orderItem.OrderItemCreateDto;
+import com.example.orderservice.dto.orderItem.OrderItemUpdateDto;
+import com.example.orderservice.model.Item;
+import com.example.orderservice.service.item.ItemService;
+import com.example.orderservice.service.order.OrderService;
+import com.example.orderservice.util.AbstractOrderPersistenceTest;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.dao.OptimisticLockingFailureException;
+
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.stream.Collectors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+@SpringBootTest
+class OrderIncrementalUpdateTests extends AbstractOrderPersistenceTest {
+
+    private static final int LINE_COUNT = 300;
+
+    @Autowired
+    private OrderService orderService;
+
+    @Autowired
+    private ItemService itemService;
+
+    private List<Item> items;
+
+    @BeforeEach
+    void setUp() {
+        items = createItems("Update item", LINE_COUNT + 1);
+    }
+
+    @Test
+    void updateOrder_OneLineOfHundreds_ShouldNotLoadOtherLines() {
+        final Long orderId = createOrderWithLines(items.subList(0, LINE_COUNT)).getId();
+        final Item changed = items.getFirst();
+        final Item added = items.getLast();
+
+        statistics.clear();
+        final OrderResponseDto result = orderService.updateOrder(OrderUpdateDto.builder()
+                .id(orderId)
+                .idsToRemove(Set.of(changed.getId()))
+                .itemsToAdd(List.of(OrderItemCreateDto.builder().itemId(added.getId()).quantity(5L).build()))
+                .build());
+
+        assertThat(statistics.getPrepareStatementCount()).isLessThanOrEqualTo(10);
+        assertEquals(0, new BigDecimal(LINE_COUNT + 4).compareTo(result.getOrderTotal()));
+        assertEquals(LINE_COUNT, result.getOrderItems().size());
+        assertThat(orderRepository.findOrderTotalById(orderId))
+                .hasValueSatisfying(total -> assertEquals(0, total.compareTo(result.getOrderTotal())));
+    }
+
+    @Test
+    void updateOrder_PriceChangedSinceCreate_ShouldTotalAtCurrentPrices() {
+        final Long orderId = createOrderWithLines(items.subList(0, 2)).getId();
+        final Item repriced = items.getFirst();
+        itemService.updateItem(ItemUpdateDto.builder()
+                .id(repriced.getId())
+                .name(repriced.getName())
+                .price(new BigDecimal("3.00"))
+                .build());
+
+        final OrderResponseDto result = orderService.updateOrder(OrderUpdateDto.builder()
+                .id(orderId)
+                .itemsToUpdate(List.of(OrderItemUpdateDto.builder().itemId(repriced.getId()).quantity(2L).build()))
+                .build());
+
+        assertEquals(0, new BigDecimal("7.00").compareTo(result.getOrderTotal()));
+        final OrderResponseDto afterRemoval = orderService.updateOrder(OrderUpdateDto.builder()
+                .id(orderId)
+                .idsToRemove(Set.of(repriced.getId()))
+                .build());
+        assertEquals(0, new BigDecimal("1.00").compareTo(afterRemoval.getOrderTotal()));
+    }
+
+    @Test
+    void updateOrder_ConcurrentEditNettingToZero_ShouldFailVersionCheck() {
+        final Long orderId = createOrderWithLines(items.subList(0, 2)).getId();
+        final Item swappedOut = items.getFirst();
+        final Item swappedIn = items.getLast();
+
+        assertThrows(OptimisticLockingFailureException.class, () -> transactionTemplate.executeWithoutResult(status -> {
+            orderRepository.findById(orderId).orElseThrow();
+            CompletableFuture.runAsync(() -> orderService.updateOrder(OrderUpdateDto.builder()
+                    .id(orderId)
+                    .itemsToUpdate(List.of(OrderItemUpdateDto.builder().itemId(swappedOut.getId()).quantity(2L).build()))
+                    .build())).join();
+            orderService.updateOrder(OrderUpdateDto.builder()
+                    .id(orderId)
+                    .idsToRemove(Set.of(swappedOut.getId()))
+                    .itemsToAdd(List.of(OrderItemCreateDto.builder().itemId(swappedIn.getId()).quantity(1L).build()))
+                    .build());
+        }));
+
+        final OrderResponseDto result = orderService.getOrderById(orderId);
+        assertEquals(0, new BigDecimal(3).compareTo(result.getOrderTotal()));
+        assertEquals(Set.of(swappedOut.getId(), items.get(1).getId()), result.getOrderItems().stream()
+                .map(line -> line.getItemDto().getId())
+                .collect(Collectors.toSet()));
+    }
+}
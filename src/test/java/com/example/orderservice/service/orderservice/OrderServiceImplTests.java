@@ -1,34 +1,51 @@
 package com.example.orderservice.service.orderservice;
 
+import com.example.orderservice.cache.order.OrderCache;
+import com.example.orderservice.cache.order.OrderTotalCache;
 import com.example.orderservice.client.UserServiceClient;
+import com.example.orderservice.dto.event.PaymentStatus;
+import com.example.orderservice.dto.order.OrderBatchResultDto;
+import com.example.orderservice.dto.order.OrderBatchStatus;
 import com.example.orderservice.dto.order.OrderCreateDto;
 import com.example.orderservice.dto.order.OrderResponseDto;
+import com.example.orderservice.dto.order.OrderTotalDto;
 import com.example.orderservice.dto.order.OrderUpdateDto;
 import com.example.orderservice.dto.orderItem.OrderItemCreateDto;
 import com.example.orderservice.dto.orderItem.OrderItemUpdateDto;
+import com.example.orderservice.dto.page.CursorPageDto;
 import com.example.orderservice.exception.order.OrderNotFoundException;
+import com.example.orderservice.exception.order.OrderVersionConflictException;
 import com.example.orderservice.exception.orderItem.OrderItemNotFoundException;
 import com.example.orderservice.exception.user.UserNotFoundException;
+import com.example.orderservice.exception.user.UserServiceUnavailableException;
 import com.example.orderservice.mapper.order.OrderMapper;
 import com.example.orderservice.model.Item;
 import com.example.orderservice.model.OrderItem;
 import com.example.orderservice.model.OrderStatus;
 import com.example.orderservice.repository.item.ItemRepository;
 import com.example.orderservice.repository.order.OrderRepository;
+import com.example.orderservice.repository.orderItem.OrderItemRepository;
 import com.example.orderservice.service.order.OrderServiceImpl;
 import com.example.orderservice.model.Order;
 import com.example.orderservice.util.AbstractContainerBaseTest;
+import com.example.orderservice.validators.order.OrderBatchValidation;
 import com.example.orderservice.validators.order.OrderValidator;
+import com.example.orderservice.util.ServiceTimingInterceptor;
 import com.github.tomakehurst.wiremock.WireMockServer;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
 import jakarta.validation.ValidationException;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
 import org.mockito.ArgumentCaptor;
+import org.mockito.stubbing.Answer;
 import org.mockito.stubbing.OngoingStubbing;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.domain.Limit;
+import org.springframework.orm.ObjectOptimisticLockingFailureException;
 import org.springframework.test.context.bean.override.mockito.MockitoBean;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.web.reactive.function.client.WebClientResponseException;
@@ -39,22 +56,36 @@ import org.wiremock.spring.InjectWireMock;
 import java.math.BigDecimal;
 import java.time.LocalDateTime;
 import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 import static com.github.tomakehurst.wiremock.client.WireMock.aResponse;
 import static com.github.tomakehurst.wiremock.client.WireMock.urlEqualTo;
 import static com.github.tomakehurst.wiremock.client.WireMock.get;
+import static com.github.tomakehurst.wiremock.client.WireMock.getRequestedFor;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
@@ -77,12 +108,24 @@ class OrderServiceImplTests extends AbstractContainerBaseTest {
     @MockitoBean
     private ItemRepository itemRepository;
 
+    @MockitoBean
+    private OrderItemRepository orderItemRepository;
+
     @MockitoBean
     private OrderValidator orderValidator;
 
     @Autowired
     private OrderServiceImpl orderServiceImpl;
 
+    @Autowired
+    private OrderCache orderCache;
+
+    @Autowired
+    private OrderTotalCache orderTotalCache;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
     private OrderCreateDto createSampleOrderCreateDto() {
         return OrderCreateDto.builder()
                 .userId(USER_ID)
@@ -111,6 +154,7 @@ class OrderServiceImplTests extends AbstractContainerBaseTest {
                 .userId(USER_ID)
                 .status(OrderStatus.CREATED)
                 .orderDate(LocalDateTime.now())
+                .orderTotal(BigDecimal.ZERO)
                 .orderItems(new ArrayList<>())
                 .build();
     }
@@ -153,6 +197,12 @@ class OrderServiceImplTests extends AbstractContainerBaseTest {
         when(itemRepository.getReferenceById(ITEM_ID_1)).thenReturn(SAMPLE_ITEM_1);
         when(itemRepository.getReferenceById(ITEM_ID_2)).thenReturn(SAMPLE_ITEM_2);
         when(itemRepository.getReferenceById(ITEM_ID_3)).thenReturn(SAMPLE_ITEM_3);
+        when(itemRepository.findExistingItems(anyList())).thenAnswer(invocation -> {
+            final List<Long> ids = invocation.getArgument(0);
+            return Stream.of(SAMPLE_ITEM_1, SAMPLE_ITEM_2, SAMPLE_ITEM_3)
+                    .filter(item -> ids.contains(item.getId()))
+                    .toList();
+        });
 
         when(orderValidator.checkOrderToExistence(ORDER_ID)).thenReturn(SAMPLE_ORDER);
         when(orderRepository.save(any(Order.class))).thenAnswer(invocation -> invocation.getArgument(0));
@@ -173,6 +223,56 @@ class OrderServiceImplTests extends AbstractContainerBaseTest {
         assertThrows(UserNotFoundException.class, () -> client.validateUserExists(invalidUserId));
     }
 
+    @Test
+    void validateUserExists_UserServiceFailing_ShouldThrowUnavailableAndNotCache() {
+        final long userId = 503L;
+        final String testUrl = "/user/" + userId;
+        wireMockServer.stubFor(get(urlEqualTo(testUrl))
+                .willReturn(aResponse().withStatus(503)));
+
+        final UserServiceClient client = new UserServiceClient(userServiceUrl);
+        assertThrows(UserServiceUnavailableException.class, () -> client.validateUserExists(userId));
+        assertThrows(UserServiceUnavailableException.class, () -> client.validateUserExists(userId));
+
+        wireMockServer.verify(2, getRequestedFor(urlEqualTo(testUrl)));
+    }
+
+    @Test
+    void validateUserExists_RepeatedCalls_ShouldHitUserServiceOnce() {
+        final long userId = 501L;
+        final String testUrl = "/user/" + userId;
+        wireMockServer.stubFor(get(urlEqualTo(testUrl))
+                .willReturn(aResponse().withStatus(200)));
+
+        final UserServiceClient client = new UserServiceClient(userServiceUrl);
+        client.validateUserExists(userId);
+        client.validateUserExists(userId);
+
+        wireMockServer.verify(1, getRequestedFor(urlEqualTo(testUrl)));
+    }
+
+    @Test
+    void validateUserExists_ConcurrentCalls_ShouldShareOneRequest() throws Exception {
+        final long userId = 502L;
+        final String testUrl = "/user/" + userId;
+        wireMockServer.stubFor(get(urlEqualTo(testUrl))
+                .willReturn(aResponse().withStatus(200).withFixedDelay(300)));
+
+        final UserServiceClient client = new UserServiceClient(userServiceUrl);
+        final int callers = 8;
+        try (ExecutorService executor = Executors.newFixedThreadPool(callers)) {
+            final List<Future<?>> calls = new ArrayList<>();
+            for (int i = 0; i < callers; i++) {
+                calls.add(executor.submit(() -> client.validateUserExists(userId)));
+            }
+            for (final Future<?> call : calls) {
+                call.get();
+            }
+        }
+
+        wireMockServer.verify(1, getRequestedFor(urlEqualTo(testUrl)));
+    }
+
 
     @Test
     @Transactional
@@ -193,7 +293,8 @@ class OrderServiceImplTests extends AbstractContainerBaseTest {
             return savedOrder;
         });
 
-        when(itemRepository.findExistingItems(any())).thenReturn(List.of(SAMPLE_ITEM_1, SAMPLE_ITEM_2));
+        when(orderValidator.validateAndLoadCreateDto(createDto))
+                .thenReturn(Map.of(ITEM_ID_1, SAMPLE_ITEM_1, ITEM_ID_2, SAMPLE_ITEM_2));
         // When
         OrderResponseDto result = orderServiceImpl.createOrder(createDto);
 
@@ -207,6 +308,7 @@ class OrderServiceImplTests extends AbstractContainerBaseTest {
         verify(orderRepository).save(orderCaptor.capture());
 
         final Order savedOrder = orderCaptor.getValue();
+        verify(itemRepository, never()).findExistingItems(any());
 
         assertEquals(2, savedOrder.getOrderItems().size());
         assertTrue(savedOrder.getOrderItems().stream()
@@ -231,7 +333,7 @@ class OrderServiceImplTests extends AbstractContainerBaseTest {
                 .build();
 
         doThrow(new UserNotFoundException(invalidUserId))
-                .when(orderValidator).validateCreateDto(createDto);
+                .when(orderValidator).validateAndLoadCreateDto(createDto);
 
         // When & Then
         assertThrows(UserNotFoundException.class, () ->
@@ -246,13 +348,49 @@ class OrderServiceImplTests extends AbstractContainerBaseTest {
 
         doThrow(new WebClientResponseException("Service unavailable", 503, "Service Unavailable",
                 null, null, null))
-                .when(orderValidator).validateCreateDto(createDto);
+                .when(orderValidator).validateAndLoadCreateDto(createDto);
 
         // When & Then
         assertThrows(WebClientResponseException.class, () ->
                 orderServiceImpl.createOrder(createDto));
     }
 
+    @Test
+    @Transactional
+    void createOrders_OneInvalidOrder_ShouldCreateTheRestAndReportFailure() {
+        // Given
+        final OrderCreateDto valid = createSampleOrderCreateDto();
+        final OrderCreateDto invalid = createSampleOrderCreateDto();
+        invalid.setUserId(999L);
+        final List<OrderCreateDto> batch = List.of(valid, invalid);
+
+        when(orderValidator.validateCreateDtos(batch)).thenReturn(new OrderBatchValidation(
+                Map.of(1, "User with id 999 not found"),
+                Map.of(ITEM_ID_1, SAMPLE_ITEM_1, ITEM_ID_2, SAMPLE_ITEM_2)
+        ));
+        when(orderRepository.saveAll(anyList())).thenAnswer(invocation -> {
+            final List<Order> orders = invocation.getArgument(0);
+            orders.forEach(order -> order.setId(ORDER_ID));
+            return orders;
+        });
+
+        // When
+        final List<OrderBatchResultDto> results = orderServiceImpl.createOrders(batch);
+
+        // Then
+        assertEquals(2, results.size());
+        assertEquals(OrderBatchStatus.CREATED, results.get(0).getStatus());
+        assertEquals(ORDER_ID, results.get(0).getOrder().getId());
+        assertEquals(0, BigDecimal.valueOf(3040).compareTo(results.get(0).getOrder().getOrderTotal()));
+        assertEquals(OrderBatchStatus.FAILED, results.get(1).getStatus());
+        assertEquals("User with id 999 not found", results.get(1).getError());
+    }
+
+    @Test
+    void createOrders_EmptyBatch_ShouldThrowException() {
+        assertThrows(ValidationException.class, () -> orderServiceImpl.createOrders(List.of()));
+    }
+
     @Test
     void getAllOrdersByIds_ValidIds_ShouldReturnOrders() {
         // Given
@@ -281,7 +419,7 @@ class OrderServiceImplTests extends AbstractContainerBaseTest {
         final Order expectedOrder = createSampleOrderEntity(orderId);
         final OrderResponseDto expectedDto = orderMapper.toResponseDto(expectedOrder);
 
-        when(orderValidator.checkOrderToExistence(orderId)).thenReturn(expectedOrder);
+        when(orderValidator.checkOrderWithItemsToExistence(orderId)).thenReturn(expectedOrder);
 
         // When
         final OrderResponseDto result = orderServiceImpl.getOrderById(orderId);
@@ -298,7 +436,7 @@ class OrderServiceImplTests extends AbstractContainerBaseTest {
     void getOrderById_NonExistingId_ShouldThrowException() {
         // Given
         Long invalidId = 999L;
-        when(orderValidator.checkOrderToExistence(invalidId))
+        when(orderValidator.checkOrderWithItemsToExistence(invalidId))
                 .thenThrow(new OrderNotFoundException(invalidId));
 
         // When & Then
@@ -306,6 +444,217 @@ class OrderServiceImplTests extends AbstractContainerBaseTest {
                 orderServiceImpl.getOrderById(invalidId));
     }
 
+    @Test
+    void getOrderById_RepeatedCall_ShouldBeServedFromCache() {
+        // Given
+        final Long orderId = 42L;
+        orderCache.evict(orderId);
+        when(orderValidator.checkOrderWithItemsToExistence(orderId)).thenReturn(createSampleOrderEntity(orderId));
+
+        // When
+        final OrderResponseDto first = orderServiceImpl.getOrderById(orderId);
+        final OrderResponseDto second = orderServiceImpl.getOrderById(orderId);
+
+        // Then
+        assertEquals(first.getId(), second.getId());
+        assertEquals(first.getOrderDate(), second.getOrderDate());
+        verify(orderValidator, times(1)).checkOrderWithItemsToExistence(orderId);
+    }
+
+    @Test
+    void getOrderById_OrderChangedDuringLoad_ShouldNotCacheStaleOrder() {
+        // Given
+        final Long orderId = 49L;
+        orderCache.evict(orderId);
+        final Order stale = createSampleOrderEntity(orderId);
+        final Order fresh = createSampleOrderEntity(orderId);
+        fresh.setStatus(OrderStatus.PAID);
+        when(orderValidator.checkOrderWithItemsToExistence(orderId)).thenAnswer(invocation -> {
+            orderCache.evict(orderId);
+            return stale;
+        }).thenReturn(fresh);
+
+        // When
+        orderServiceImpl.getOrderById(orderId);
+        final OrderResponseDto reloaded = orderServiceImpl.getOrderById(orderId);
+
+        // Then
+        assertEquals(OrderStatus.PAID, reloaded.getStatus());
+        verify(orderValidator, times(2)).checkOrderWithItemsToExistence(orderId);
+    }
+
+    @Test
+    void getOrderById_Called_ShouldRecordServiceTimer() {
+        // Given
+        final Long orderId = 48L;
+        orderCache.evict(orderId);
+        when(orderValidator.checkOrderWithItemsToExistence(orderId)).thenReturn(createSampleOrderEntity(orderId));
+        final long before = serviceTimerCount("getOrderById", "success");
+
+        // When
+        orderServiceImpl.getOrderById(orderId);
+
+        // Then
+        assertEquals(before + 1, serviceTimerCount("getOrderById", "success"));
+    }
+
+    private long serviceTimerCount(final String method, final String outcome) {
+        final Timer timer = meterRegistry.find(ServiceTimingInterceptor.METRIC_NAME)
+                .tags("class", OrderServiceImpl.class.getSimpleName(), "method", method, "outcome", outcome)
+                .timer();
+        return timer == null ? 0 : timer.count();
+    }
+
+    @Test
+    void getOrderTotalById_RepeatedCall_ShouldQueryOnce() {
+        // Given
+        final Long orderId = 43L;
+        orderTotalCache.evict(orderId);
+        when(orderRepository.findOrderTotalById(orderId)).thenReturn(Optional.of(BigDecimal.TEN));
+
+        // When
+        final BigDecimal first = orderServiceImpl.getOrderTotalById(orderId);
+        final BigDecimal second = orderServiceImpl.getOrderTotalById(orderId);
+
+        // Then
+        assertEquals(BigDecimal.TEN, first);
+        assertEquals(first, second);
+        assertTrue(orderServiceImpl.isOrderExistsById(orderId));
+        verify(orderRepository, times(1)).findOrderTotalById(orderId);
+        verify(orderRepository, never()).existsById(orderId);
+    }
+
+    @Test
+    void getOrderTotalById_NonExistingId_ShouldThrowException() {
+        // Given
+        final Long orderId = 44L;
+        orderTotalCache.evict(orderId);
+        when(orderRepository.findOrderTotalById(orderId)).thenReturn(Optional.empty());
+
+        // When & Then
+        assertThrows(OrderNotFoundException.class, () -> orderServiceImpl.getOrderTotalById(orderId));
+    }
+
+    @Test
+    void getOrderTotalById_UpdateCommittedDuringRead_ShouldNotCacheStaleTotal() {
+        // Given
+        final Long orderId = 48L;
+        orderTotalCache.evict(orderId);
+        when(orderRepository.findOrderTotalById(orderId)).thenAnswer(invocation -> {
+            orderTotalCache.evict(orderId);
+            return Optional.of(BigDecimal.ONE);
+        }).thenReturn(Optional.of(BigDecimal.TEN));
+
+        // When
+        final BigDecimal stale = orderServiceImpl.getOrderTotalById(orderId);
+        final BigDecimal fresh = orderServiceImpl.getOrderTotalById(orderId);
+
+        // Then
+        assertEquals(BigDecimal.ONE, stale);
+        assertEquals(BigDecimal.TEN, fresh);
+    }
+
+    @Test
+    void getOrderTotalsByIds_PartiallyCached_ShouldLoadOnlyMissingTotals() {
+        // Given
+        final Long cachedId = 45L;
+        final Long storedId = 46L;
+        final Long missingId = 47L;
+        orderTotalCache.put(cachedId, BigDecimal.ONE, orderTotalCache.readStamp(cachedId));
+        orderTotalCache.evict(storedId);
+        orderTotalCache.evict(missingId);
+        when(orderRepository.findOrderTotalsByIdIn(List.of(storedId, missingId)))
+                .thenReturn(List.of(new OrderTotalDto(storedId, BigDecimal.TEN)));
+
+        // When
+        final List<OrderTotalDto> totals = orderServiceImpl.getOrderTotalsByIds(
+                List.of(cachedId, storedId, missingId, cachedId));
+
+        // Then
+        assertEquals(List.of(new OrderTotalDto(cachedId, BigDecimal.ONE), new OrderTotalDto(storedId, BigDecimal.TEN)),
+                totals);
+        assertEquals(BigDecimal.TEN, orderServiceImpl.getOrderTotalById(storedId));
+        verify(orderRepository, never()).findOrderTotalById(storedId);
+    }
+
+    @Test
+    @Transactional
+    void updateOrderStatus_CachedOrder_ShouldEvictCacheEntry() {
+        // Given
+        final Long orderId = 43L;
+        orderCache.evict(orderId);
+        when(orderValidator.checkOrderWithItemsToExistence(orderId)).thenReturn(createSampleOrderEntity(orderId));
+        when(orderValidator.checkOrderToExistence(orderId)).thenReturn(createSampleOrderEntity(orderId));
+        orderServiceImpl.getOrderById(orderId);
+        assertTrue(orderCache.get(orderId).isPresent());
+
+        // When
+        orderServiceImpl.updateOrderStatus(orderId, PaymentStatus.SUCCESS);
+
+        // Then
+        assertTrue(orderCache.get(orderId).isEmpty());
+    }
+
+    @Test
+    void updateOrderStatuses_MixedStatuses_ShouldIssueOneUpdatePerStatus() {
+        // Given
+        final Map<Long, PaymentStatus> statuses = new LinkedHashMap<>();
+        statuses.put(1L, PaymentStatus.SUCCESS);
+        statuses.put(2L, PaymentStatus.FAILED);
+        statuses.put(3L, PaymentStatus.SUCCESS);
+        when(orderRepository.updateStatusByIdIn(List.of(1L, 3L), OrderStatus.PAID)).thenReturn(2);
+        when(orderRepository.updateStatusByIdIn(List.of(2L), OrderStatus.UNPAID)).thenReturn(1);
+
+        // When
+        final int updated = orderServiceImpl.updateOrderStatuses(statuses);
+
+        // Then
+        assertEquals(3, updated);
+        verify(orderRepository).updateStatusByIdIn(List.of(1L, 3L), OrderStatus.PAID);
+        verify(orderRepository).updateStatusByIdIn(List.of(2L), OrderStatus.UNPAID);
+    }
+
+    @Test
+    void getOrdersPageByUserId_MoreOrdersThanPageSize_ShouldReturnNextCursor() {
+        // Given
+        when(orderRepository.findOrderIdsByUserIdAfter(eq(USER_ID), eq(0L), any(Limit.class)))
+                .thenReturn(List.of(1L, 2L, 3L));
+        when(orderRepository.findAllWithOrderItemsByIdIn(List.of(1L, 2L)))
+                .thenReturn(List.of(createSampleOrderEntity(1L), createSampleOrderEntity(2L)));
+
+        // When
+        final CursorPageDto<OrderResponseDto> page = orderServiceImpl.getOrdersPageByUserId(USER_ID, null, 2);
+
+        // Then
+        assertTrue(page.isHasNext());
+        assertEquals(2L, page.getNextCursor());
+        assertThat(page.getContent().stream().map(OrderResponseDto::getId).toList())
+                .containsExactly(1L, 2L);
+    }
+
+    @Test
+    void getOrdersPageByUserId_LastPage_ShouldNotReturnCursor() {
+        // Given
+        when(orderRepository.findOrderIdsByUserIdAfter(eq(USER_ID), eq(2L), any(Limit.class)))
+                .thenReturn(List.of(3L));
+        when(orderRepository.findAllWithOrderItemsByIdIn(List.of(3L)))
+                .thenReturn(List.of(createSampleOrderEntity(3L)));
+
+        // When
+        final CursorPageDto<OrderResponseDto> page = orderServiceImpl.getOrdersPageByUserId(USER_ID, 2L, 2);
+
+        // Then
+        assertFalse(page.isHasNext());
+        assertNull(page.getNextCursor());
+        assertEquals(1, page.getContent().size());
+    }
+
+    @Test
+    void getOrdersPageByUserId_NonPositiveSize_ShouldThrowException() {
+        assertThrows(IllegalArgumentException.class, () ->
+                orderServiceImpl.getOrdersPageByUserId(USER_ID, null, 0));
+    }
+
     @Test
     @Transactional
     void createOrder_WithPastDate_ShouldUseProvidedDate() {
@@ -374,6 +723,7 @@ class OrderServiceImplTests extends AbstractContainerBaseTest {
                 .build();
 
         when(orderRepository.findById(ORDER_ID)).thenReturn(Optional.of(existingOrder));
+        stubOrderLines(existingOrder);
 
         // When
         orderServiceImpl.updateOrder(updateDto);
@@ -406,6 +756,7 @@ class OrderServiceImplTests extends AbstractContainerBaseTest {
                 .build();
 
         when(orderRepository.findById(ORDER_ID)).thenReturn(Optional.of(existingOrder));
+        stubOrderLines(existingOrder);
 
         // When
         orderServiceImpl.updateOrder(updateDto);
@@ -436,6 +787,7 @@ class OrderServiceImplTests extends AbstractContainerBaseTest {
                 .build();
 
         when(orderRepository.findById(ORDER_ID)).thenReturn(Optional.of(existingOrder));
+        stubOrderLines(existingOrder);
 
         // When
         orderServiceImpl.updateOrder(updateDto);
@@ -465,6 +817,7 @@ class OrderServiceImplTests extends AbstractContainerBaseTest {
                 .build();
 
         when(orderRepository.findById(ORDER_ID)).thenReturn(Optional.of(existingOrder));
+        stubOrderLines(existingOrder);
 
         // When
         orderServiceImpl.updateOrder(updateDto);
@@ -475,6 +828,81 @@ class OrderServiceImplTests extends AbstractContainerBaseTest {
         assertEquals(1, existingOrder.getOrderItems().size()); // Items unchanged
     }
 
+    @Test
+    void updateOrder_ConcurrentModification_ShouldReplayOnFreshCopy() {
+        // Given
+        final Order staleOrder = createSampleOrderEntity(ORDER_ID);
+        staleOrder.setVersion(1L);
+        staleOrder.setOrderItems(new ArrayList<>(List.of(createOrderItem(1L, SAMPLE_ITEM_1, 2L))));
+        final Order freshOrder = createSampleOrderEntity(ORDER_ID);
+        freshOrder.setVersion(2L);
+        freshOrder.setStatus(OrderStatus.PAID);
+        freshOrder.setOrderTotal(BigDecimal.valueOf(4040));
+        freshOrder.setOrderItems(new ArrayList<>(List.of(createOrderItem(1L, SAMPLE_ITEM_1, 4L))));
+
+        final OrderUpdateDto updateDto = OrderUpdateDto.builder()
+                .id(ORDER_ID)
+                .itemsToAdd(List.of(
+                        OrderItemCreateDto.builder().itemId(ITEM_ID_1).quantity(1L).build()
+                ))
+                .build();
+
+        when(orderRepository.findById(ORDER_ID))
+                .thenReturn(Optional.of(staleOrder))
+                .thenReturn(Optional.of(freshOrder));
+        when(orderItemRepository.findByOrderIdAndItemIdIn(eq(ORDER_ID), any()))
+                .thenAnswer(linesOf(staleOrder))
+                .thenAnswer(linesOf(freshOrder));
+        when(orderItemRepository.sumLineTotalsByOrderId(ORDER_ID))
+                .thenAnswer(totalOf(staleOrder))
+                .thenAnswer(totalOf(freshOrder));
+        when(orderRepository.saveAndFlush(any(Order.class)))
+                .thenThrow(new ObjectOptimisticLockingFailureException(Order.class, ORDER_ID))
+                .thenAnswer(invocation -> invocation.getArgument(0));
+
+        // When
+        final OrderResponseDto result = orderServiceImpl.updateOrder(updateDto);
+
+        // Then
+        verify(orderRepository, times(2)).findById(ORDER_ID);
+        assertEquals(OrderStatus.PAID, result.getStatus());
+        assertEquals(5L, freshOrder.getOrderItems().getFirst().getQuantity());
+        assertEquals(0, BigDecimal.valueOf(5050).compareTo(result.getOrderTotal()));
+    }
+
+    @Test
+    void updateOrder_PersistentConflict_ShouldGiveUpAfterMaxAttempts() {
+        // Given
+        when(orderRepository.findById(ORDER_ID))
+                .thenAnswer(invocation -> Optional.of(createSampleOrderEntity(ORDER_ID)));
+        when(orderRepository.saveAndFlush(any(Order.class)))
+                .thenThrow(new ObjectOptimisticLockingFailureException(Order.class, ORDER_ID));
+
+        // When & Then
+        assertThrows(ObjectOptimisticLockingFailureException.class, () ->
+                orderServiceImpl.updateOrder(OrderUpdateDto.builder().id(ORDER_ID).build()));
+        verify(orderRepository, times(3)).findById(ORDER_ID);
+    }
+
+    @Test
+    void updateOrder_ExpectedVersionMismatch_ShouldThrowWithoutSaving() {
+        // Given
+        final Order existingOrder = createSampleOrderEntity(ORDER_ID);
+        existingOrder.setVersion(3L);
+        when(orderRepository.findById(ORDER_ID)).thenReturn(Optional.of(existingOrder));
+
+        final OrderUpdateDto updateDto = OrderUpdateDto.builder()
+                .id(ORDER_ID)
+                .status(OrderStatus.PROCESSING)
+                .version(2L)
+                .build();
+
+        // When & Then
+        assertThrows(OrderVersionConflictException.class, () -> orderServiceImpl.updateOrder(updateDto));
+        verify(orderRepository, never()).saveAndFlush(any(Order.class));
+        assertEquals(OrderStatus.CREATED, existingOrder.getStatus());
+    }
+
     @Test
     @Transactional
     void updateOrder_InvalidItemUpdate_ShouldThrowException() {
@@ -515,7 +943,7 @@ class OrderServiceImplTests extends AbstractContainerBaseTest {
         // Then
         assertNotNull(result);
         assertEquals(ORDER_ID, result.getId());
-        verify(orderRepository).delete(existingOrder);
+        verify(orderRepository).bulkDeleteByIdIn(List.of(ORDER_ID));
     }
 
     @Test
@@ -547,6 +975,55 @@ class OrderServiceImplTests extends AbstractContainerBaseTest {
         assertThrows(ValidationException.class, () -> orderServiceImpl.updateOrder(updateDto));
     }
 
+    @Test
+    @Transactional
+    void updateOrder_RemoveItem_ShouldTouchOnlyAffectedLineAndAdjustTotal() {
+        // Given
+        final OrderItem keptLine = createOrderItem(1L, SAMPLE_ITEM_1, 2L);
+        final OrderItem removedLine = createOrderItem(2L, SAMPLE_ITEM_2, 1L);
+        final Order existingOrder = createSampleOrderEntity(ORDER_ID);
+        existingOrder.setOrderTotal(BigDecimal.valueOf(3040));
+        existingOrder.setOrderItems(new ArrayList<>(List.of(keptLine, removedLine)));
+
+        final OrderUpdateDto updateDto = OrderUpdateDto.builder()
+                .id(ORDER_ID)
+                .idsToRemove(Set.of(ITEM_ID_2))
+                .build();
+
+        when(orderRepository.findById(ORDER_ID)).thenReturn(Optional.of(existingOrder));
+        stubOrderLines(existingOrder);
+
+        // When
+        final OrderResponseDto result = orderServiceImpl.updateOrder(updateDto);
+
+        // Then
+        verify(orderRepository).incrementVersion(existingOrder);
+        verify(orderItemRepository).findByOrderIdAndItemIdIn(ORDER_ID, Set.of(ITEM_ID_2));
+        verify(orderItemRepository).deleteAll(List.of(removedLine));
+        assertEquals(List.of(keptLine), existingOrder.getOrderItems());
+        assertEquals(0, BigDecimal.valueOf(2020).compareTo(result.getOrderTotal()));
+    }
+
+    private void stubOrderLines(final Order order) {
+        when(orderItemRepository.findByOrderIdAndItemIdIn(eq(order.getId()), any())).thenAnswer(linesOf(order));
+        when(orderItemRepository.sumLineTotalsByOrderId(order.getId())).thenAnswer(totalOf(order));
+    }
+
+    private static Answer<BigDecimal> totalOf(final Order order) {
+        return invocation -> order.getOrderItems().stream()
+                .map(oi -> oi.getItem().getPrice().multiply(BigDecimal.valueOf(oi.getQuantity())))
+                .reduce(BigDecimal.ZERO, BigDecimal::add);
+    }
+
+    private static Answer<List<OrderItem>> linesOf(final Order order) {
+        return invocation -> {
+            final Collection<Long> itemIds = invocation.getArgument(1);
+            return order.getOrderItems().stream()
+                    .filter(oi -> itemIds.contains(oi.getItem().getId()))
+                    .toList();
+        };
+    }
+
     private OrderItem createOrderItem(final Long id, final Item item, final Long quantity) {
         return OrderItem.builder()
                 .id(id)
@@ -0,0 +1,64 @@
+package com.example.orderservice.service.orderservice;
+
+import com.example.orderservice.client.UserServiceClient;
+import com.example.orderservice.dto.order.OrderResponseDto;
+import com.example.orderservice.model.Item;
+import com.example.orderservice.service.order.OrderService;
+import com.example.orderservice.util.AbstractOrderPersistenceTest;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.ApplicationContext;
+import org.springframework.orm.jpa.support.OpenEntityManagerInViewInterceptor;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+
+import java.util.Iterator;
+import java.util.List;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+@SpringBootTest(properties = "order.pagination.stream-chunk-size=" + OrderStreamingTests.CHUNK_SIZE)
+class OrderStreamingTests extends AbstractOrderPersistenceTest {
+
+    static final int CHUNK_SIZE = 5;
+    private static final int ORDER_COUNT = CHUNK_SIZE * 3 + 1;
+
+    @MockitoBean
+    private UserServiceClient userServiceClient;
+
+    @Autowired
+    private OrderService orderService;
+
+    @Autowired
+    private ApplicationContext applicationContext;
+
+    @Test
+    void openInView_ShouldBeDisabled() {
+        assertThat(applicationContext.getBeanNamesForType(OpenEntityManagerInViewInterceptor.class)).isEmpty();
+    }
+
+    @Test
+    void streamOrdersByUserId_SeveralChunks_ShouldNotKeepAPersistenceContextOpen() {
+        final Long userId = SEQUENCE.incrementAndGet();
+        final List<Item> lineItems = createItems("Stream item", 2);
+        for (int i = 0; i < ORDER_COUNT; i++) {
+            createOrderWithLines(userId, lineItems);
+        }
+
+        statistics.clear();
+        int streamed = 0;
+        try (Stream<OrderResponseDto> orders = orderService.streamOrdersByUserId(userId)) {
+            final Iterator<OrderResponseDto> iterator = orders.iterator();
+            while (iterator.hasNext()) {
+                assertEquals(lineItems.size(), iterator.next().getOrderItems().size());
+                streamed++;
+                assertEquals(statistics.getSessionOpenCount(), statistics.getSessionCloseCount());
+            }
+        }
+
+        assertEquals(ORDER_COUNT, streamed);
+        assertThat(statistics.getSessionOpenCount()).isGreaterThan(1);
+    }
+}
@@ -0,0 +1,158 @@
+package com.example.orderservice.service.orderservice;
+
+import com.example.orderservice.dto.order.Operation;
+import com.example.orderservice.dto.order.OrderResponseDto;
+import com.example.orderservice.dto.order.OrderUpdateDto;
+import com.example.orderservice.dto.order.OrderUpdateNormalizer;
+import com.example.orderservice.dto.orderItem.OrderItemCreateDto;
+import com.example.orderservice.model.OrderStatus;
+import com.example.orderservice.service.order.OrderUpdateCoalescer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.validation.ValidationException;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.function.BiFunction;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class OrderUpdateCoalescerTests {
+
+    private static final Long ORDER_ID = 1L;
+    private static final Long ITEM_ID_1 = 101L;
+    private static final Long ITEM_ID_2 = 102L;
+
+    private final List<Map<Long, Operation>> applied = new CopyOnWriteArrayList<>();
+
+    @Test
+    void merge_AddAfterAddAndRemove_ShouldMatchSequentialApplication() {
+        final Map<Long, Operation> merged = OrderUpdateNormalizer.merge(
+                Map.of(ITEM_ID_1, Operation.add(2L), ITEM_ID_2, Operation.remove()),
+                Map.of(ITEM_ID_1, Operation.add(3L), ITEM_ID_2, Operation.add(4L)));
+
+        assertEquals(Operation.add(5L), merged.get(ITEM_ID_1));
+        assertEquals(Operation.update(4L), merged.get(ITEM_ID_2));
+    }
+
+    @Test
+    void submit_Disabled_ShouldApplyOnCallerThread() {
+        final OrderUpdateCoalescer coalescer = new OrderUpdateCoalescer(new SimpleMeterRegistry(), false, 4);
+        final Thread caller = Thread.currentThread();
+
+        final OrderResponseDto response = coalescer.submit(addItem(ITEM_ID_1, 1L), Map.of(), (dto, ops) -> {
+            assertEquals(caller, Thread.currentThread());
+            return OrderResponseDto.builder().id(dto.getId()).build();
+        });
+
+        assertEquals(ORDER_ID, response.getId());
+    }
+
+    @Test
+    void submit_UpdatesQueuedBehindBusyOrder_ShouldBeMergedIntoOneApplication() throws Exception {
+        final OrderUpdateCoalescer coalescer = new OrderUpdateCoalescer(new SimpleMeterRegistry(), true, 4);
+        final CountDownLatch firstStarted = new CountDownLatch(1);
+        final CountDownLatch releaseFirst = new CountDownLatch(1);
+        final BiFunction<OrderUpdateDto, Map<Long, Operation>, OrderResponseDto> applier = (dto, ops) -> {
+            if (applied.isEmpty()) {
+                firstStarted.countDown();
+                await(releaseFirst);
+            }
+            applied.add(ops);
+            return OrderResponseDto.builder().id(dto.getId()).status(dto.getStatus()).build();
+        };
+
+        final CompletableFuture<OrderResponseDto> first = submitAsync(coalescer, addItem(ITEM_ID_1, 1L), applier);
+        assertTrue(firstStarted.await(5, TimeUnit.SECONDS));
+
+        final OrderUpdateDto second = addItem(ITEM_ID_1, 2L);
+        second.setStatus(OrderStatus.PROCESSING);
+        final CompletableFuture<OrderResponseDto> secondResult = submitAsync(coalescer, second, applier);
+        final CompletableFuture<OrderResponseDto> thirdResult = submitAsync(coalescer, removeItem(ITEM_ID_2), applier);
+        awaitPending(coalescer, 2);
+        releaseFirst.countDown();
+
+        first.get(5, TimeUnit.SECONDS);
+        assertEquals(OrderStatus.PROCESSING, secondResult.get(5, TimeUnit.SECONDS).getStatus());
+        assertEquals(OrderStatus.PROCESSING, thirdResult.get(5, TimeUnit.SECONDS).getStatus());
+        assertEquals(2, applied.size());
+        assertEquals(Map.of(ITEM_ID_1, Operation.add(2L), ITEM_ID_2, Operation.remove()), applied.get(1));
+    }
+
+    @Test
+    void submit_MergedApplicationFails_ShouldFallBackToIndividualUpdates() throws Exception {
+        final OrderUpdateCoalescer coalescer = new OrderUpdateCoalescer(new SimpleMeterRegistry(), true, 4);
+        final CountDownLatch firstStarted = new CountDownLatch(1);
+        final CountDownLatch releaseFirst = new CountDownLatch(1);
+        final BiFunction<OrderUpdateDto, Map<Long, Operation>, OrderResponseDto> applier = (dto, ops) -> {
+            if (applied.isEmpty()) {
+                firstStarted.countDown();
+                await(releaseFirst);
+            }
+            applied.add(ops);
+            if (ops.containsKey(ITEM_ID_2)) {
+                throw new ValidationException("Item " + ITEM_ID_2 + " cannot be removed");
+            }
+            return OrderResponseDto.builder().id(dto.getId()).build();
+        };
+
+        final CompletableFuture<OrderResponseDto> first = submitAsync(coalescer, addItem(ITEM_ID_1, 1L), applier);
+        assertTrue(firstStarted.await(5, TimeUnit.SECONDS));
+
+        final CompletableFuture<OrderResponseDto> valid = submitAsync(coalescer, addItem(ITEM_ID_1, 2L), applier);
+        final CompletableFuture<OrderResponseDto> invalid = submitAsync(coalescer, removeItem(ITEM_ID_2), applier);
+        awaitPending(coalescer, 2);
+        releaseFirst.countDown();
+
+        first.get(5, TimeUnit.SECONDS);
+        assertEquals(ORDER_ID, valid.get(5, TimeUnit.SECONDS).getId());
+        final Exception failure = assertThrows(Exception.class, () -> invalid.get(5, TimeUnit.SECONDS));
+        assertTrue(failure.getCause() instanceof ValidationException);
+        assertEquals(4, applied.size());
+    }
+
+    private static CompletableFuture<OrderResponseDto> submitAsync(
+            final OrderUpdateCoalescer coalescer,
+            final OrderUpdateDto dto,
+            final BiFunction<OrderUpdateDto, Map<Long, Operation>, OrderResponseDto> applier) {
+        return CompletableFuture.supplyAsync(() ->
+                coalescer.submit(dto, OrderUpdateNormalizer.normalize(dto), applier));
+    }
+
+    private static void awaitPending(final OrderUpdateCoalescer coalescer, final int expected) throws InterruptedException {
+        final long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (coalescer.pendingUpdates() < expected && System.nanoTime() < deadline) {
+            Thread.sleep(5);
+        }
+        assertEquals(expected, coalescer.pendingUpdates());
+    }
+
+    private static OrderUpdateDto addItem(final Long itemId, final Long quantity) {
+        return OrderUpdateDto.builder()
+                .id(ORDER_ID)
+                .itemsToAdd(List.of(OrderItemCreateDto.builder().itemId(itemId).quantity(quantity).build()))
+                .build();
+    }
+
+    private static OrderUpdateDto removeItem(final Long itemId) {
+        return OrderUpdateDto.builder()
+                .id(ORDER_ID)
+                .idsToRemove(Set.of(itemId))
+                .build();
+    }
+
+    private static void await(final CountDownLatch latch) {
+        try {
+            latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -0,0 +1,83 @@
+package com.example.orderservice.util;
+
+import com.example.orderservice.model.Item;
+import com.example.orderservice.model.Order;
+import com.example.orderservice.model.OrderItem;
+import com.example.orderservice.model.OrderStatus;
+import com.example.orderservice.repository.item.ItemRepository;
+import com.example.orderservice.repository.order.OrderRepository;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Base for tests that persist real orders and assert on the statements
+ * Hibernate issued for them.
+ */
+public abstract class AbstractOrderPersistenceTest extends AbstractContainerBaseTest {
+
+    protected static final AtomicLong SEQUENCE = new AtomicLong(System.currentTimeMillis());
+
+    @Autowired
+    protected OrderRepository orderRepository;
+
+    @Autowired
+    protected ItemRepository itemRepository;
+
+    @Autowired
+    protected TransactionTemplate transactionTemplate;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    protected Statistics statistics;
+
+    @BeforeEach
+    void setUpStatistics() {
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+    }
+
+    protected List<Item> createItems(final String namePrefix, final int count) {
+        final List<Item> newItems = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            newItems.add(Item.builder()
+                    .name(namePrefix + " " + SEQUENCE.incrementAndGet())
+                    .price(new BigDecimal("1.00"))
+                    .build());
+        }
+        return itemRepository.saveAll(newItems);
+    }
+
+    /**
+     * Saves an order with one line of quantity 1 per entry in {@code lineItems}.
+     */
+    protected Order createOrderWithLines(final List<Item> lineItems) {
+        return createOrderWithLines(SEQUENCE.incrementAndGet(), lineItems);
+    }
+
+    protected Order createOrderWithLines(final Long userId, final List<Item> lineItems) {
+        final Order order = Order.builder()
+                .userId(userId)
+                .status(OrderStatus.CREATED)
+                .orderDate(LocalDateTime.now())
+                .orderTotal(lineItems.stream().map(Item::getPrice).reduce(BigDecimal.ZERO, BigDecimal::add))
+                .build();
+        for (final Item item : lineItems) {
+            order.getOrderItems().add(OrderItem.builder()
+                    .order(order)
+                    .item(item)
+                    .quantity(1L)
+                    .build());
+        }
+        return transactionTemplate.execute(status -> orderRepository.save(order));
+    }
+}
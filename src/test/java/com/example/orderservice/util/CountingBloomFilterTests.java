@@ -0,0 +1,67 @@
+package com.example.orderservice.util;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class CountingBloomFilterTests {
+
+    @Test
+    void mightContain_AddedKeys_ShouldNeverReturnFalse() {
+        final CountingBloomFilter filter = CountingBloomFilter.create(10_000, 0.01);
+        for (long id = 1; id <= 10_000; id++) {
+            filter.add(id);
+        }
+
+        for (long id = 1; id <= 10_000; id++) {
+            assertTrue(filter.mightContain(id));
+        }
+    }
+
+    @Test
+    void mightContain_UnknownKeys_ShouldStayNearConfiguredRate() {
+        final CountingBloomFilter filter = CountingBloomFilter.create(10_000, 0.01);
+        for (long id = 1; id <= 10_000; id++) {
+            filter.add(id);
+        }
+
+        int falsePositives = 0;
+        for (long id = 1_000_000; id < 1_100_000; id++) {
+            if (filter.mightContain(id)) {
+                falsePositives++;
+            }
+        }
+
+        assertThat(falsePositives / 100_000.0).isLessThan(0.02);
+        assertThat(filter.expectedFalsePositiveRate()).isLessThan(0.02);
+    }
+
+    @Test
+    void remove_AddedKey_ShouldKeepOtherKeys() {
+        final CountingBloomFilter filter = CountingBloomFilter.create(1_000, 0.01);
+        for (long id = 1; id <= 1_000; id++) {
+            filter.add(id);
+        }
+
+        filter.remove(500L);
+
+        for (long id = 1; id <= 1_000; id++) {
+            if (id != 500L) {
+                assertTrue(filter.mightContain(id));
+            }
+        }
+    }
+
+    @Test
+    void remove_OnlyKey_ShouldReportDefiniteNegative() {
+        final CountingBloomFilter filter = CountingBloomFilter.create(1_000, 0.01);
+        filter.add(42L);
+
+        filter.remove(42L);
+
+        assertFalse(filter.mightContain(42L));
+        assertThat(filter.approximateSize()).isZero();
+    }
+}
@@ -0,0 +1,40 @@
+package com.example.orderservice.util;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.validation.ValidationException;
+import org.junit.jupiter.api.Test;
+import org.springframework.aop.framework.ProxyFactory;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class ValidationFailureInterceptorTests {
+
+    interface SampleValidator {
+        void validate(String value);
+    }
+
+    @Test
+    void invoke_ValidatorThrows_ShouldCountFailureByReason() {
+        final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+        final ProxyFactory proxyFactory = new ProxyFactory((SampleValidator) value -> {
+            if (value.isBlank()) {
+                throw new ValidationException("Value must not be blank");
+            }
+        });
+        proxyFactory.addAdvice(new ValidationFailureInterceptor(() -> meterRegistry));
+        final SampleValidator validator = (SampleValidator) proxyFactory.getProxy();
+
+        validator.validate("ok");
+        assertThrows(ValidationException.class, () -> validator.validate(" "));
+        assertThrows(ValidationException.class, () -> validator.validate(""));
+
+        final Counter failures = meterRegistry.find(ValidationFailureInterceptor.METRIC_NAME)
+                .tags("method", "validate", "reason", ValidationException.class.getSimpleName())
+                .counter();
+        assertNotNull(failures);
+        assertEquals(2, failures.count());
+    }
+}